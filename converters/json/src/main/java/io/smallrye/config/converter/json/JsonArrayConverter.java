@@ -1,32 +1,39 @@
 package io.smallrye.config.converter.json;
 
-import java.io.StringReader;
-
-import javax.json.Json;
 import javax.json.JsonArray;
-import javax.json.JsonReader;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.microprofile.config.spi.Converter;
 
 /**
  * Converts a json string to a JSonArray
+ * <p>
+ * The parser factory is shared and the converted values are cached by the raw json string, but each new value is
+ * still read into a complete {@code JsonArray} tree.
  * 
  * @author <a href="mailto:phillip.kruger@redhat.com">Phillip Kruger</a>
  */
 public class JsonArrayConverter implements Converter<JsonArray> {
+    private final JsonValues.Cache<JsonArray> cache = new JsonValues.Cache<>();
 
     @Override
     public JsonArray convert(String input) {
         if (isNullOrEmpty(input))
             return null;
 
-        try (JsonReader jsonReader = Json.createReader(new StringReader(input))) {
-            return jsonReader.readArray();
-        }
+        return cache.computeIfAbsent(input, JsonArrayConverter::readArray);
     }
 
     private boolean isNullOrEmpty(String input) {
         return input == null || input.isEmpty();
     }
 
+    private static JsonArray readArray(String input) {
+        try (JsonParser parser = JsonValues.createParser(input)) {
+            JsonValues.start(parser, JsonParser.Event.START_ARRAY);
+            JsonArray jsonArray = parser.getArray();
+            JsonValues.end(parser);
+            return jsonArray;
+        }
+    }
 }
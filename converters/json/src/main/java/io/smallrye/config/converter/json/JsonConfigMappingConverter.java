@@ -0,0 +1,129 @@
+package io.smallrye.config.converter.json;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.stream.JsonParser;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.config.ConfigMappingMapper;
+import io.smallrye.config.ConfigValidationException;
+
+/**
+ * Converts a json string to a {@link io.smallrye.config.ConfigMapping} interface.
+ * <p>
+ *
+ * The json text is read with the streaming {@link JsonParser}, and each json value is collected with its
+ * configuration property name, without building a {@link javax.json.JsonObject} tree. Nested objects
+ * use the dotted notation ({@code server.host}) and arrays use indexed properties ({@code server.ports[0]}), so the
+ * json structure follows the same rules as any other configuration source for a {@code ConfigMapping}. A json
+ * {@code null} is mapped as a missing value.
+ * <p>
+ *
+ * The root json value must be an object. The mapping metadata is created once per converter, with a
+ * {@link ConfigMappingMapper}, and converted mappings are cached by the raw json text.
+ *
+ * @param <T> the {@code ConfigMapping} type
+ */
+@Experimental("Convert json values to ConfigMapping")
+public class JsonConfigMappingConverter<T> implements Converter<T> {
+    private final ConfigMappingMapper<T> mapper;
+    private final JsonValues.Cache<T> cache = new JsonValues.Cache<>();
+
+    public JsonConfigMappingConverter(final Class<T> mappingType) {
+        this.mapper = new ConfigMappingMapper<>(mappingType, "");
+    }
+
+    @Override
+    public T convert(final String input) {
+        if (input == null || input.isEmpty()) {
+            return null;
+        }
+
+        return cache.computeIfAbsent(input, this::map);
+    }
+
+    private T map(final String input) {
+        final Map<String, String> properties = new HashMap<>();
+        try (JsonParser parser = JsonValues.createParser(input)) {
+            JsonValues.start(parser, JsonParser.Event.START_OBJECT);
+            readObject(parser, new StringBuilder(), properties);
+            JsonValues.end(parser);
+        }
+
+        try {
+            return mapper.map(properties);
+        } catch (ConfigValidationException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static void readObject(final JsonParser parser, final StringBuilder name, final Map<String, String> properties) {
+        final int length = name.length();
+        while (parser.hasNext()) {
+            final JsonParser.Event event = parser.next();
+            if (event == JsonParser.Event.END_OBJECT) {
+                break;
+            }
+
+            name.setLength(length);
+            if (length > 0) {
+                name.append('.');
+            }
+            final String key = parser.getString();
+            if (key.indexOf('.') != -1) {
+                name.append('"').append(key).append('"');
+            } else {
+                name.append(key);
+            }
+            readValue(parser, parser.next(), name, properties);
+        }
+        name.setLength(length);
+    }
+
+    private static void readArray(final JsonParser parser, final StringBuilder name, final Map<String, String> properties) {
+        final int length = name.length();
+        int index = 0;
+        while (parser.hasNext()) {
+            final JsonParser.Event event = parser.next();
+            if (event == JsonParser.Event.END_ARRAY) {
+                break;
+            }
+
+            name.setLength(length);
+            name.append('[').append(index++).append(']');
+            readValue(parser, event, name, properties);
+        }
+        name.setLength(length);
+    }
+
+    private static void readValue(
+            final JsonParser parser,
+            final JsonParser.Event event,
+            final StringBuilder name,
+            final Map<String, String> properties) {
+
+        switch (event) {
+            case START_OBJECT:
+                readObject(parser, name, properties);
+                break;
+            case START_ARRAY:
+                readArray(parser, name, properties);
+                break;
+            case VALUE_STRING:
+            case VALUE_NUMBER:
+                properties.put(name.toString(), parser.getString());
+                break;
+            case VALUE_TRUE:
+                properties.put(name.toString(), "true");
+                break;
+            case VALUE_FALSE:
+                properties.put(name.toString(), "false");
+                break;
+            default:
+                break;
+        }
+    }
+}
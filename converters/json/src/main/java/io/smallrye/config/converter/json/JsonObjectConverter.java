@@ -1,32 +1,39 @@
 package io.smallrye.config.converter.json;
 
-import java.io.StringReader;
-
-import javax.json.Json;
 import javax.json.JsonObject;
-import javax.json.JsonReader;
+import javax.json.stream.JsonParser;
 
 import org.eclipse.microprofile.config.spi.Converter;
 
 /**
  * Converts a json string to a JSonObject
+ * <p>
+ * The parser factory is shared and the converted values are cached by the raw json string, but each new value is
+ * still read into a complete {@code JsonObject} tree.
  * 
  * @author <a href="mailto:phillip.kruger@redhat.com">Phillip Kruger</a>
  */
 public class JsonObjectConverter implements Converter<JsonObject> {
+    private final JsonValues.Cache<JsonObject> cache = new JsonValues.Cache<>();
 
     @Override
     public JsonObject convert(String input) {
         if (isNullOrEmpty(input))
             return null;
 
-        try (JsonReader jsonReader = Json.createReader(new StringReader(input))) {
-            return jsonReader.readObject();
-        }
+        return cache.computeIfAbsent(input, JsonObjectConverter::readObject);
     }
 
     private boolean isNullOrEmpty(String input) {
         return input == null || input.isEmpty();
     }
 
+    private static JsonObject readObject(String input) {
+        try (JsonParser parser = JsonValues.createParser(input)) {
+            JsonValues.start(parser, JsonParser.Event.START_OBJECT);
+            JsonObject jsonObject = parser.getObject();
+            JsonValues.end(parser);
+            return jsonObject;
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package io.smallrye.config.converter.json;
+
+import java.io.StringReader;
+import java.util.function.Function;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParserFactory;
+import javax.json.stream.JsonParsingException;
+
+/**
+ * Shared support to read json values with the streaming {@link JsonParser}.
+ * <p>
+ *
+ * The {@link JsonParserFactory} is created once and reused for every conversion, instead of looking up the json
+ * provider each time a value is read.
+ */
+final class JsonValues {
+    private JsonValues() {
+        throw new UnsupportedOperationException();
+    }
+
+    static JsonParser createParser(final String input) {
+        return ParserFactoryHolder.INSTANCE.createParser(new StringReader(input));
+    }
+
+    /**
+     * Advances the parser to the first event of the json text and checks that it is the expected one.
+     */
+    static void start(final JsonParser parser, final Event expected) {
+        final Event event = parser.hasNext() ? parser.next() : null;
+        if (event != expected) {
+            throw new JsonParsingException("Invalid token=" + event + ". Expected " + expected, parser.getLocation());
+        }
+    }
+
+    /**
+     * Checks that there is no content left in the json text after the value that was read.
+     */
+    static void end(final JsonParser parser) {
+        if (parser.hasNext()) {
+            throw new JsonParsingException("Expected EOF token, but got " + parser.next(), parser.getLocation());
+        }
+    }
+
+    /**
+     * The {@link JsonParserFactory} is only created when the first value is read, so a missing json provider does
+     * not prevent the converters from being loaded.
+     */
+    private static final class ParserFactoryHolder {
+        static final JsonParserFactory INSTANCE = Json.createParserFactory(null);
+    }
+
+    /**
+     * A small direct-mapped cache of converted values, keyed by the raw json text. The same raw value is usually
+     * converted multiple times, for instance on each injection point, and the parsed json values are immutable, so
+     * these can be shared.
+     *
+     * @param <T> the converted type
+     */
+    static final class Cache<T> {
+        private static final int SIZE = 32;
+
+        @SuppressWarnings("unchecked")
+        private final Entry<T>[] entries = new Entry[SIZE];
+
+        T computeIfAbsent(final String input, final Function<String, T> function) {
+            final int hash = input.hashCode();
+            final int index = (hash ^ hash >>> 16) & (SIZE - 1);
+            final Entry<T> entry = entries[index];
+            if (entry != null && entry.input.equals(input)) {
+                return entry.value;
+            }
+            final T value = function.apply(input);
+            if (value != null) {
+                entries[index] = new Entry<>(input, value);
+            }
+            return value;
+        }
+
+        private static final class Entry<T> {
+            private final String input;
+            private final T value;
+
+            Entry(final String input, final T value) {
+                this.input = input;
+                this.value = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.smallrye.config.converter.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.json.stream.JsonParsingException;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+class JsonConfigMappingConverterTest {
+    @Test
+    void mapping() {
+        JsonConfigMappingConverter<Server> converter = new JsonConfigMappingConverter<>(Server.class);
+        Server server = converter.convert("{\"host\": \"localhost\", \"port\": 8080, \"ssl\": true, " +
+                "\"aliases\": [\"a\", \"b\"], " +
+                "\"log\": {\"enabled\": false}, " +
+                "\"headers\": {\"x.forwarded\": \"yes\"}, " +
+                "\"proxies\": [{\"host\": \"p1\"}, {\"host\": \"p2\", \"port\": 9090}], " +
+                "\"description\": null}");
+
+        assertEquals("localhost", server.host());
+        assertEquals(8080, server.port());
+        assertTrue(server.ssl());
+        assertEquals(2, server.aliases().size());
+        assertEquals("b", server.aliases().get(1));
+        assertFalse(server.log().enabled());
+        assertEquals("yes", server.headers().get("x.forwarded"));
+        assertEquals(2, server.proxies().size());
+        assertEquals("p1", server.proxies().get(0).host());
+        assertEquals(80, server.proxies().get(0).port());
+        assertEquals(9090, server.proxies().get(1).port());
+        assertFalse(server.description().isPresent());
+    }
+
+    @Test
+    void cached() {
+        JsonConfigMappingConverter<Proxy> converter = new JsonConfigMappingConverter<>(Proxy.class);
+        Proxy proxy = converter.convert("{\"host\": \"localhost\"}");
+        assertSame(proxy, converter.convert("{\"host\": \"localhost\"}"));
+        assertNull(converter.convert(""));
+    }
+
+    @Test
+    void invalid() {
+        JsonConfigMappingConverter<Proxy> converter = new JsonConfigMappingConverter<>(Proxy.class);
+        assertThrows(JsonParsingException.class, () -> converter.convert("[\"localhost\"]"));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("{\"port\": 8080}"));
+    }
+
+    @ConfigMapping
+    public interface Server {
+        String host();
+
+        int port();
+
+        boolean ssl();
+
+        List<String> aliases();
+
+        Log log();
+
+        Map<String, String> headers();
+
+        List<Proxy> proxies();
+
+        Optional<String> description();
+
+        interface Log {
+            boolean enabled();
+        }
+    }
+
+    @ConfigMapping
+    public interface Proxy {
+        String host();
+
+        @WithDefault("80")
+        int port();
+    }
+}
@@ -0,0 +1,428 @@
+package io.smallrye.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A binary representation of a set of {@link ConfigValue}, read directly from a {@link ByteBuffer}.
+ * <p>
+ *
+ * The names are indexed in an open addressing table of the name hashes, so a lookup reads a few slots of the table
+ * and compares the name characters in the buffer, without decoding the other entries. Only the value of the name
+ * found is decoded into a {@link String}, and kept for the next lookups of the same name. The buffer may be a memory
+ * mapped file, in which case the entries are not in the heap.
+ * <p>
+ *
+ * The layout, in big-endian:
+ *
+ * <pre>
+ * int magic, int version, int count, int table size, int sources count
+ * sources: int ordinal, string name
+ * table: int entry offset (0 if the slot is empty)
+ * entries: int name hash, int source index (-1 if none), int line number, string name, string value
+ * string: int length (-1 if null), followed by the UTF-16 chars
+ * </pre>
+ */
+final class BinaryConfigValues {
+    private static final int MAGIC = 0x53524346;
+    private static final int VERSION = 1;
+    private static final int HEADER = 5 * 4;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int table;
+    private final int mask;
+    private final String[] sourceNames;
+    private final int[] sourceOrdinals;
+    /**
+     * The decoded values, by slot of the table, populated on lookup. A racy lookup may decode the same value twice,
+     * which is harmless since {@link String} is immutable.
+     */
+    private final String[] values;
+    private volatile Set<String> names;
+
+    private BinaryConfigValues(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.count = buffer.getInt(8);
+        final int tableSize = buffer.getInt(12);
+        final int sources = buffer.getInt(16);
+        this.sourceNames = new String[sources];
+        this.sourceOrdinals = new int[sources];
+        int position = HEADER;
+        for (int i = 0; i < sources; i++) {
+            sourceOrdinals[i] = buffer.getInt(position);
+            sourceNames[i] = readString(position + 4);
+            position += 4 + 4 + 2 * buffer.getInt(position + 4);
+        }
+        this.table = position;
+        this.mask = tableSize - 1;
+        this.values = new String[tableSize];
+    }
+
+    /**
+     * Reads the values of a buffer.
+     *
+     * @param buffer the buffer, with the contents written by {@link #write(Iterable, OutputStream)}
+     * @param location the location of the buffer contents, for error messages
+     * @return the values
+     * @throws IllegalArgumentException if the buffer does not contain the binary format
+     */
+    static BinaryConfigValues of(final ByteBuffer buffer, final String location) {
+        if (buffer.limit() < HEADER || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw ConfigMessages.msg.invalidBinaryConfigValues(location);
+        }
+        return new BinaryConfigValues(buffer);
+    }
+
+    /**
+     * Find a {@link ConfigValue} by name.
+     *
+     * @param name the property name
+     * @return the {@link ConfigValue}, or {@code null} if the name is not found
+     */
+    ConfigValue get(final String name) {
+        final int slot = slotOf(name);
+        return slot >= 0 ? readEntry(entryAt(slot), name, valueAt(slot)) : null;
+    }
+
+    /**
+     * Find a value by name, without the metadata of the {@link ConfigValue}.
+     *
+     * @param name the property name
+     * @return the value, or {@code null} if the name is not found
+     */
+    String getValue(final String name) {
+        final int slot = slotOf(name);
+        return slot >= 0 ? valueAt(slot) : null;
+    }
+
+    /**
+     * @param name the property name
+     * @return {@code true} if the name is found, without decoding the value
+     */
+    boolean contains(final String name) {
+        return slotOf(name) >= 0;
+    }
+
+    private int slotOf(final String name) {
+        final int hash = name.hashCode();
+        for (int slot = spread(hash) & mask;; slot = slot + 1 & mask) {
+            final int entry = entryAt(slot);
+            if (entry == 0) {
+                return -1;
+            }
+            if (buffer.getInt(entry) == hash && nameEquals(entry + 12, name)) {
+                return slot;
+            }
+        }
+    }
+
+    private int entryAt(final int slot) {
+        return buffer.getInt(table + 4 * slot);
+    }
+
+    private String valueAt(final int slot) {
+        String value = values[slot];
+        if (value == null) {
+            value = readString(valueOf(entryAt(slot)));
+            values[slot] = value;
+        }
+        return value;
+    }
+
+    /**
+     * @return a read only {@link Map} view of the values, which decodes the entries on demand
+     */
+    Map<String, ConfigValue> asMap() {
+        return new AbstractMap<String, ConfigValue>() {
+            @Override
+            public ConfigValue get(final Object key) {
+                return key instanceof String ? BinaryConfigValues.this.get((String) key) : null;
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return key instanceof String && contains((String) key);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+
+            @Override
+            public Set<String> keySet() {
+                return names();
+            }
+
+            @Override
+            public Set<Entry<String, ConfigValue>> entrySet() {
+                return new AbstractSet<Entry<String, ConfigValue>>() {
+                    @Override
+                    public Iterator<Entry<String, ConfigValue>> iterator() {
+                        return new EntryIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return count;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * @return a read only {@link Map} view of the values, without the metadata of the {@link ConfigValue}. The view is
+     *         serialized as a copy.
+     */
+    Map<String, String> asStringMap() {
+        return new StringMapView(this);
+    }
+
+    /**
+     * Decodes all the names, once.
+     *
+     * @return the names, in the order of the entries
+     */
+    Set<String> names() {
+        Set<String> names = this.names;
+        if (names == null) {
+            final Set<String> decoded = new LinkedHashSet<>(count * 4 / 3 + 1);
+            int entry = table + 4 * (mask + 1);
+            for (int i = 0; i < count; i++) {
+                decoded.add(readString(entry + 12));
+                entry = nextEntry(entry);
+            }
+            this.names = names = Collections.unmodifiableSet(decoded);
+        }
+        return names;
+    }
+
+    private ConfigValue readEntry(final int entry, final String name, final String string) {
+        final int source = buffer.getInt(entry + 4);
+        return ConfigValue.builder()
+                .withName(name)
+                .withValue(string)
+                .withRawValue(string)
+                .withConfigSourceName(source >= 0 ? sourceNames[source] : null)
+                .withConfigSourceOrdinal(source >= 0 ? sourceOrdinals[source] : 0)
+                .withLineNumber(buffer.getInt(entry + 8))
+                .build();
+    }
+
+    private int valueOf(final int entry) {
+        return entry + 12 + 4 + 2 * buffer.getInt(entry + 12);
+    }
+
+    private int nextEntry(final int entry) {
+        final int value = valueOf(entry);
+        final int length = buffer.getInt(value);
+        return value + 4 + (length > 0 ? 2 * length : 0);
+    }
+
+    private boolean nameEquals(final int position, final String name) {
+        final int length = buffer.getInt(position);
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.getChar(position + 4 + 2 * i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String readString(final int position) {
+        final int length = buffer.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar(position + 4 + 2 * i);
+        }
+        return new String(chars);
+    }
+
+    private static final class StringMapView extends AbstractMap<String, String> implements Serializable {
+        private static final long serialVersionUID = -6125431540391582284L;
+
+        private final transient BinaryConfigValues values;
+
+        StringMapView(final BinaryConfigValues values) {
+            this.values = values;
+        }
+
+        @Override
+        public String get(final Object key) {
+            return key instanceof String ? values.getValue((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof String && values.contains((String) key);
+        }
+
+        @Override
+        public int size() {
+            return values.count;
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return values.names();
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    final Iterator<Entry<String, ConfigValue>> delegate = values.new EntryIterator();
+                    return new Iterator<Entry<String, String>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return delegate.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            final Entry<String, ConfigValue> entry = delegate.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().getValue());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return values.count;
+                }
+            };
+        }
+
+        Object writeReplace() throws ObjectStreamException {
+            return new HashMap<>(this);
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, ConfigValue>> {
+        private int entry = table + 4 * (mask + 1);
+        private int remaining = count;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Map.Entry<String, ConfigValue> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final String name = readString(entry + 12);
+            final ConfigValue configValue = readEntry(entry, name, readString(valueOf(entry)));
+            entry = nextEntry(entry);
+            remaining--;
+            return new AbstractMap.SimpleImmutableEntry<>(name, configValue);
+        }
+    }
+
+    /**
+     * Writes {@link ConfigValue} in the binary format. The source name and ordinal of each {@link ConfigValue} are
+     * kept, with each source written once.
+     *
+     * @param configValues the values to write, with unique names
+     * @param output the stream to write to
+     * @throws IOException if an error occurs while writing
+     */
+    static void write(final Iterable<ConfigValue> configValues, final OutputStream output) throws IOException {
+        final Map<String, Integer> sources = new LinkedHashMap<>();
+        final List<Integer> sourceOrdinals = new ArrayList<>();
+        final List<ConfigValue> values = new ArrayList<>();
+        for (ConfigValue configValue : configValues) {
+            values.add(configValue);
+            final String sourceName = configValue.getConfigSourceName();
+            if (sourceName != null && !sources.containsKey(sourceName)) {
+                sources.put(sourceName, sources.size());
+                sourceOrdinals.add(configValue.getConfigSourceOrdinal());
+            }
+        }
+
+        final ByteArrayOutputStream header = new ByteArrayOutputStream();
+        final DataOutputStream headerOut = new DataOutputStream(header);
+        final int tableSize = Integer.highestOneBit(Math.max(values.size(), 1) * 2 - 1) << 1;
+        headerOut.writeInt(MAGIC);
+        headerOut.writeInt(VERSION);
+        headerOut.writeInt(values.size());
+        headerOut.writeInt(tableSize);
+        headerOut.writeInt(sources.size());
+        int i = 0;
+        for (String sourceName : sources.keySet()) {
+            headerOut.writeInt(sourceOrdinals.get(i++));
+            writeString(headerOut, sourceName);
+        }
+        headerOut.flush();
+
+        final int entriesStart = header.size() + 4 * tableSize;
+        final int[] slots = new int[tableSize];
+        final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        final DataOutputStream entriesOut = new DataOutputStream(entries);
+        for (ConfigValue configValue : values) {
+            final String name = configValue.getName();
+            final int hash = name.hashCode();
+            int slot = spread(hash) & tableSize - 1;
+            while (slots[slot] != 0) {
+                slot = slot + 1 & tableSize - 1;
+            }
+            slots[slot] = entriesStart + entriesOut.size();
+
+            entriesOut.writeInt(hash);
+            final String sourceName = configValue.getConfigSourceName();
+            entriesOut.writeInt(sourceName != null ? sources.get(sourceName) : -1);
+            entriesOut.writeInt(configValue.getLineNumber());
+            writeString(entriesOut, name);
+            writeString(entriesOut, configValue.getValue());
+        }
+        entriesOut.flush();
+
+        final DataOutputStream out = new DataOutputStream(output);
+        header.writeTo(out);
+        for (int slot : slots) {
+            out.writeInt(slot);
+        }
+        entries.writeTo(out);
+        out.flush();
+    }
+
+    private static void writeString(final DataOutputStream out, final String string) throws IOException {
+        if (string == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(string.length());
+            out.writeChars(string);
+        }
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ hash >>> 16;
+    }
+}
@@ -0,0 +1,42 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Extends the original {@link Converter} to allow the conversion of a region of a {@link CharSequence}, without
+ * having to materialize the region as a {@link String} first.
+ * <p>
+ *
+ * This is useful when a single raw value contains multiple elements, like a comma-separated list. Each element can
+ * be converted directly from the original raw value, avoiding the allocation of an intermediate {@link String} per
+ * element. The built-in converters for numeric types, {@link Boolean}, {@link Character} and {@link java.util.UUID}
+ * implement this interface.
+ *
+ * @param <T> the converted type
+ */
+@Experimental("Extension to the original Converter to allow conversion of a CharSequence region")
+public interface CharSequenceConverter<T> extends Converter<T> {
+    /**
+     * Convert the region of the {@link CharSequence} delimited by {@code start} (inclusive) and {@code end}
+     * (exclusive) to the target type. The result must be the same as calling {@link #convert(String)} with the
+     * {@link String} representation of the region.
+     *
+     * @param value the character sequence to convert (must not be {@code null})
+     * @param start the start index of the region, inclusive
+     * @param end the end index of the region, exclusive
+     * @return the converted value, or {@code null} if the region represents an empty value
+     * @throws IllegalArgumentException if the region cannot be converted to the target type
+     * @throws NullPointerException if the value is {@code null}
+     */
+    T convert(CharSequence value, int start, int end) throws IllegalArgumentException, NullPointerException;
+
+    @Override
+    default T convert(String value) throws IllegalArgumentException, NullPointerException {
+        if (value == null) {
+            throw ConfigMessages.msg.converterNullValue();
+        }
+        return convert(value, 0, value.length());
+    }
+}
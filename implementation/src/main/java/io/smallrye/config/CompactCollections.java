@@ -0,0 +1,289 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Immutable and compact copies of the collections and maps of a mapping, once the mapping is complete.
+ * <p>
+ *
+ * A list is copied to an array with the exact size. Sets and maps are copied to open addressing tables, with the keys
+ * and values in a single array, instead of a node per entry. Collections or maps with {@code null} elements or keys
+ * are only wrapped as unmodifiable.
+ */
+final class CompactCollections {
+    private CompactCollections() {
+        throw new UnsupportedOperationException();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> Collection<E> copyOf(final Collection<E> collection) {
+        if (collection instanceof CompactList || collection instanceof CompactSet) {
+            return collection;
+        }
+        if (collection instanceof List) {
+            return collection.isEmpty() ? Collections.emptyList() : new CompactList<>((E[]) collection.toArray());
+        }
+        if (collection instanceof Set) {
+            if (collection.isEmpty()) {
+                return Collections.emptySet();
+            }
+            if (collection.contains(null)) {
+                return Collections.unmodifiableSet((Set<E>) collection);
+            }
+            return new CompactSet<>(collection);
+        }
+        return Collections.unmodifiableCollection(collection);
+    }
+
+    /**
+     * Copies a map. Nested maps created by the mapping (a {@link HashMap} value) are also copied.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> Map<K, V> copyOf(final Map<K, V> map) {
+        if (map instanceof CompactMap) {
+            return map;
+        }
+        if (map.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        if (map.containsKey(null)) {
+            return Collections.unmodifiableMap(map);
+        }
+        final CompactMap<K, V> copy = new CompactMap<>(map.size());
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            V value = entry.getValue();
+            if (value != null && value.getClass() == HashMap.class) {
+                value = (V) copyOf((Map<?, ?>) value);
+            }
+            copy.add(entry.getKey(), value);
+        }
+        return copy;
+    }
+
+    /**
+     * The size of an open addressing table for a number of elements, with a load factor of at most {@code 0.5}.
+     */
+    private static int tableSize(final int size) {
+        return Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+    }
+
+    private static int hash(final Object key, final int mask) {
+        final int h = key.hashCode();
+        return (h ^ h >>> 16) & mask;
+    }
+
+    static final class CompactList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+        private static final long serialVersionUID = -1187392434232426585L;
+
+        private final E[] elements;
+
+        CompactList(final E[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public E get(final int index) {
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+
+    static final class CompactSet<E> extends AbstractSet<E> implements Serializable {
+        private static final long serialVersionUID = 4325512453426911186L;
+
+        private final Object[] table;
+        private final int size;
+
+        CompactSet(final Collection<E> elements) {
+            this.table = new Object[tableSize(elements.size())];
+            int size = 0;
+            final int mask = table.length - 1;
+            for (E element : elements) {
+                int index = hash(element, mask);
+                while (table[index] != null && !table[index].equals(element)) {
+                    index = index + 1 & mask;
+                }
+                if (table[index] == null) {
+                    table[index] = element;
+                    size++;
+                }
+            }
+            this.size = size;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (o == null) {
+                return false;
+            }
+            final int mask = table.length - 1;
+            for (int index = hash(o, mask);; index = index + 1 & mask) {
+                final Object element = table[index];
+                if (element == null) {
+                    return false;
+                }
+                if (element.equals(o)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int index = next(0);
+
+                private int next(int index) {
+                    while (index < table.length && table[index] == null) {
+                        index++;
+                    }
+                    return index;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return index < table.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final E element = (E) table[index];
+                    index = next(index + 1);
+                    return element;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    static final class CompactMap<K, V> extends AbstractMap<K, V> implements Serializable {
+        private static final long serialVersionUID = -2473405433315622146L;
+
+        /**
+         * The keys in the even positions and the values in the odd positions.
+         */
+        private final Object[] table;
+        private int size;
+
+        CompactMap(final int size) {
+            this.table = new Object[tableSize(size) * 2];
+        }
+
+        private int indexOf(final Object key) {
+            final int mask = (table.length >> 1) - 1;
+            for (int index = hash(key, mask);; index = index + 1 & mask) {
+                final Object k = table[index << 1];
+                if (k == null || k.equals(key)) {
+                    return index << 1;
+                }
+            }
+        }
+
+        /**
+         * Only used to fill in the copy.
+         */
+        void add(final K key, final V value) {
+            final int index = indexOf(key);
+            if (table[index] == null) {
+                table[index] = key;
+                size++;
+            }
+            table[index + 1] = value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(final Object key) {
+            if (key == null) {
+                return null;
+            }
+            final int index = indexOf(key);
+            return table[index] != null ? (V) table[index + 1] : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key != null && table[indexOf(key)] != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<Entry<K, V>>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new Iterator<Entry<K, V>>() {
+                        private int index = next(0);
+
+                        private int next(int index) {
+                            while (index < table.length && table[index] == null) {
+                                index += 2;
+                            }
+                            return index;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < table.length;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public Entry<K, V> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final Entry<K, V> entry = new SimpleImmutableEntry<>((K) table[index], (V) table[index + 1]);
+                            index = next(index + 2);
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public boolean contains(final Object o) {
+                    if (!(o instanceof Entry)) {
+                        return false;
+                    }
+                    final Entry<?, ?> entry = (Entry<?, ?>) o;
+                    final Object key = entry.getKey();
+                    return containsKey(key) && Objects.equals(get(key), entry.getValue());
+                }
+            };
+        }
+    }
+}
@@ -34,4 +34,16 @@ public interface ConfigLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 1005, value = "Could not find sources with %s in %s")
     void configLocationsNotFound(String name, String value);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1006, value = "Mapped %s in %d us (construct %d us, match %d us, validate %d us, optionals %d us)")
+    void mappingPhases(String roots, long total, long construct, long match, long validate, long optionals);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1007, value = "The compiled properties %s do not match %s, which is parsed instead")
+    void staleCompiledProperties(String compiled, String properties);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1008, value = "The generated metadata of %s does not match the mapping, which is introspected instead")
+    void staleConfigMappingIndex(String mapping);
 }
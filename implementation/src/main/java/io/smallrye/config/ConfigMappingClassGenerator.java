@@ -0,0 +1,143 @@
+package io.smallrye.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Generates the implementation classes of {@link ConfigMapping} interfaces and {@link ConfigProperties} classes ahead
+ * of time, as class files, and a metadata index of each mapping interface.
+ * <p>
+ *
+ * {@link ConfigMappingLoader} always tries to load an implementation class from the class loader of the mapping type,
+ * before generating and defining it at runtime. If the generated files are packaged with the mapping types, the
+ * mapping interfaces are read from their index instead of being introspected, no bytecode is generated when the
+ * application starts, and the implementation classes can be archived with Class Data Sharing like any other class. An
+ * index and implementation class which do not match the mapping interface anymore are ignored.
+ * <p>
+ *
+ * The generator can run as part of the build, for instance with the {@code exec-maven-plugin} in the
+ * {@code process-classes} phase:
+ *
+ * <pre>
+ * java io.smallrye.config.ConfigMappingClassGenerator target/classes [output-directory]
+ * </pre>
+ *
+ * The mapping types are loaded from the classes directory (which must also be in the classpath), and the
+ * implementation classes are written to the output directory, or to the classes directory if no output directory is
+ * set.
+ */
+@Experimental("Generate the ConfigMapping implementation classes ahead of time")
+public final class ConfigMappingClassGenerator {
+    private ConfigMappingClassGenerator() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            throw new IllegalArgumentException(
+                    "Usage: " + ConfigMappingClassGenerator.class.getName() + " <classes-directory> [output-directory]");
+        }
+
+        final Path classesDirectory = Paths.get(args[0]);
+        final Path outputDirectory = args.length == 2 ? Paths.get(args[1]) : classesDirectory;
+        final ClassLoader classLoader = SecuritySupport.getContextClassLoader();
+        generate(classesDirectory, outputDirectory, classLoader != null ? classLoader
+                : ConfigMappingClassGenerator.class.getClassLoader());
+    }
+
+    /**
+     * Generates the implementation classes of all the mapping types found in a classes directory.
+     *
+     * @param classesDirectory the directory to look for mapping types
+     * @param outputDirectory the directory to write the generated class files
+     * @param classLoader the class loader to load the types from the classes directory
+     * @return the paths of the generated class files and indexes
+     * @throws IOException if an error occurs while reading or writing the class files
+     */
+    public static List<Path> generate(
+            final Path classesDirectory,
+            final Path outputDirectory,
+            final ClassLoader classLoader) throws IOException {
+
+        final List<Class<?>> types = new ArrayList<>();
+        final List<Path> classFiles;
+        try (Stream<Path> paths = Files.walk(classesDirectory)) {
+            classFiles = paths.filter(path -> path.toString().endsWith(".class")).collect(Collectors.toList());
+        }
+
+        for (Path classFile : classFiles) {
+            final String relative = classesDirectory.relativize(classFile).toString();
+            final String className = relative.substring(0, relative.length() - ".class".length())
+                    .replace(classFile.getFileSystem().getSeparator(), ".");
+            // skip generated classes and module or package descriptors
+            if (className.contains("$$") || className.endsWith("-info")) {
+                continue;
+            }
+
+            final Class<?> type;
+            try {
+                type = Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+
+            if (type.isInterface() && type.isAnnotationPresent(ConfigMapping.class)
+                    || !type.isInterface() && type.isAnnotationPresent(ConfigProperties.class)) {
+                types.add(type);
+            }
+        }
+
+        return generate(types, outputDirectory);
+    }
+
+    /**
+     * Generates the implementation classes of the mapping types, including the implementation classes of the nested
+     * groups, and the metadata index of each mapping interface, read by {@link ConfigMappingInterface} instead of
+     * introspecting the interface.
+     *
+     * @param types the mapping types
+     * @param outputDirectory the directory to write the generated class files
+     * @return the paths of the generated class files and indexes
+     * @throws IOException if an error occurs while writing the class files
+     */
+    public static List<Path> generate(final Collection<Class<?>> types, final Path outputDirectory) throws IOException {
+        final Map<String, ConfigMappingMetadata> mappingsMetadata = new LinkedHashMap<>();
+        for (Class<?> type : types) {
+            for (ConfigMappingMetadata mappingMetadata : ConfigMappingLoader.getConfigMappingsMetadata(type)) {
+                mappingsMetadata.putIfAbsent(mappingMetadata.getClassName(), mappingMetadata);
+            }
+        }
+
+        final List<Path> files = new ArrayList<>();
+        for (ConfigMappingMetadata mappingMetadata : mappingsMetadata.values()) {
+            final Path classFile = outputDirectory.resolve(mappingMetadata.getClassName().replace('.', '/') + ".class");
+            Files.createDirectories(classFile.getParent());
+            Files.write(classFile, mappingMetadata.getClassBytes());
+            files.add(classFile);
+
+            if (mappingMetadata instanceof ConfigMappingInterface) {
+                final ConfigMappingInterface mapping = (ConfigMappingInterface) mappingMetadata;
+                final byte[] index = ConfigMappingIndex.write(mapping);
+                if (index != null) {
+                    final Path indexFile = outputDirectory.resolve(ConfigMappingIndex.getIndexName(mapping.getInterfaceType()));
+                    Files.write(indexFile, index);
+                    files.add(indexFile);
+                }
+            }
+        }
+        return files;
+    }
+}
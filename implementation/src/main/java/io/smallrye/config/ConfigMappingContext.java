@@ -20,7 +20,9 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.IntFunction;
 
 import org.eclipse.microprofile.config.spi.Converter;
@@ -33,20 +35,50 @@ import io.smallrye.config.ConfigMappingInterface.NamingStrategy;
  * mapping has completed.
  */
 public final class ConfigMappingContext {
+    /**
+     * The instances of the converters set with {@link WithConverter}, shared by all the mappings.
+     */
+    private static final ClassValue<Converter<?>> CONVERTER_INSTANCES = new ClassValue<Converter<?>>() {
+        @Override
+        protected Converter<?> computeValue(final Class<?> type) {
+            return newConverterInstance(type);
+        }
+    };
+
+    /**
+     * How to obtain the converters of the fields of each mapping type, shared by all the mappings. The converters
+     * themselves are obtained from the {@link SmallRyeConfig} of each mapping, since they may differ.
+     */
+    private static final ClassValue<FieldConverters> FIELD_CONVERTERS = new ClassValue<FieldConverters>() {
+        @Override
+        protected FieldConverters computeValue(final Class<?> type) {
+            return new FieldConverters(getConfigurationInterface(type));
+        }
+    };
+
     private final Map<Class<?>, Map<String, Map<Object, Object>>> enclosedThings = new IdentityHashMap<>();
     private final Map<Class<?>, Map<String, ConfigMappingObject>> roots = new IdentityHashMap<>();
     private final Map<Class<?>, Map<String, Converter<?>>> convertersByTypeAndField = new IdentityHashMap<>();
     private final List<Map<Class<?>, Map<String, Converter<?>>>> keyConvertersByDegreeTypeAndField = new ArrayList<>();
-    private final Map<Class<?>, Converter<?>> converterInstances = new IdentityHashMap<>();
     private final List<ConfigMappingObject> allInstances = new ArrayList<>();
     private final SmallRyeConfig config;
     private final StringBuilder stringBuilder = new StringBuilder();
     private final ArrayList<Problem> problems = new ArrayList<>();
 
+    private final boolean lazyConversion;
+    private final boolean validateConversion;
+    private final List<LazyValue> lazyValues = new ArrayList<>();
+
     private NamingStrategy namingStrategy = null;
 
     ConfigMappingContext(final SmallRyeConfig config) {
+        this(config, false, false);
+    }
+
+    ConfigMappingContext(final SmallRyeConfig config, final boolean lazyConversion, final boolean validateConversion) {
         this.config = config;
+        this.lazyConversion = lazyConversion;
+        this.validateConversion = validateConversion;
     }
 
     public ConfigMappingObject getRoot(Class<?> rootType, String rootPath) {
@@ -86,47 +118,60 @@ public final class ConfigMappingContext {
     public <T> Converter<T> getValueConverter(Class<?> enclosingType, String field) {
         return (Converter<T>) convertersByTypeAndField
                 .computeIfAbsent(enclosingType, x -> new HashMap<>())
-                .computeIfAbsent(field, x -> {
-                    ConfigMappingInterface ci = getConfigurationInterface(enclosingType);
-                    Property property = ci.getProperty(field);
-                    return getConverter(property);
-                });
-    }
-
-    private Converter<?> getConverter(final Property property) {
-        boolean optional = property.isOptional();
-        if (property.isLeaf() || optional && property.asOptional().getNestedProperty().isLeaf()) {
-            LeafProperty leafProperty = optional ? property.asOptional().getNestedProperty().asLeaf()
-                    : property.asLeaf();
-            if (leafProperty.hasConvertWith()) {
-                Class<? extends Converter<?>> convertWith = leafProperty.getConvertWith();
-                // todo: generics
-                return getConverterInstance(convertWith);
-            } else {
-                // todo: replace with generic converter lookup
-                Class<?> valueRawType = leafProperty.getValueRawType();
-                if (valueRawType == List.class) {
-                    return config.requireConverter(rawTypeOf(typeOfParameter(leafProperty.getValueType(), 0)));
-                } else if (valueRawType == Set.class) {
-                    return config.requireConverter(rawTypeOf(typeOfParameter(leafProperty.getValueType(), 0)));
-                } else {
-                    return config.requireConverter(valueRawType);
-                }
-            }
-        } else if (property.isPrimitive()) {
-            PrimitiveProperty primitiveProperty = property.asPrimitive();
-            if (primitiveProperty.hasConvertWith()) {
-                return getConverterInstance(primitiveProperty.getConvertWith());
-            } else {
-                return config.requireConverter(primitiveProperty.getBoxType());
+                .computeIfAbsent(field, x -> FIELD_CONVERTERS.get(enclosingType).getValueConverter(field).resolve(config));
+    }
+
+    /**
+     * Checks if the leaf properties of the mapping implementations are converted on first access, with
+     * {@link #getLazyValue(String, Converter, boolean)}, instead of when the implementation is constructed.
+     *
+     * @return {@code true} if the values are converted on first access
+     */
+    public boolean isLazyConversion() {
+        return lazyConversion;
+    }
+
+    /**
+     * Get the value of a leaf property, to be converted on first access. Used by the mapping implementations when
+     * {@link #isLazyConversion()} is set.
+     * <p>
+     *
+     * The value is looked up immediately, so a missing required property is still reported during the mapping. A
+     * conversion problem is only reported when the property method is called, unless the conversion is validated,
+     * with {@link #validateLazyValues()}.
+     *
+     * @param name the property name
+     * @param converter the converter of the property
+     * @param optional {@code true} if the property is an {@link java.util.Optional}
+     * @return the lazy value
+     */
+    public LazyValue getLazyValue(final String name, final Converter<?> converter, final boolean optional) {
+        final Converter<?> valueConverter = optional ? Converters.newOptionalConverter(converter) : converter;
+        final ConfigValue configValue = config.getConfigValue(name);
+        if (configValue.getValue() == null) {
+            return new LazyValue(config.convertValue(name, configValue, valueConverter));
+        }
+        final LazyValue lazyValue = new LazyValue(config, name, configValue, valueConverter);
+        if (validateConversion) {
+            lazyValues.add(lazyValue);
+        }
+        return lazyValue;
+    }
+
+    /**
+     * Converts the values returned by {@link #getLazyValue(String, Converter, boolean)} when the conversion is
+     * validated, and reports the conversion problems. Each value is converted once, and the converted value is kept
+     * for the first access of the property method.
+     */
+    void validateLazyValues() {
+        for (LazyValue lazyValue : lazyValues) {
+            try {
+                lazyValue.get();
+            } catch (RuntimeException e) {
+                reportProblem(e);
             }
-        } else if (property.isCollection() || optional && property.asOptional().getNestedProperty().isCollection()) {
-            CollectionProperty collectionProperty = optional ? property.asOptional().getNestedProperty().asCollection()
-                    : property.asCollection();
-            return getConverter(collectionProperty.getElement());
-        } else {
-            throw new IllegalStateException();
         }
+        lazyValues.clear();
     }
 
     @SuppressWarnings("unchecked")
@@ -138,53 +183,33 @@ public final class ConfigMappingContext {
         Map<Class<?>, Map<String, Converter<?>>> map = list.get(degree);
         return (Converter<T>) map
                 .computeIfAbsent(enclosingType, x -> new HashMap<>())
-                .computeIfAbsent(field, x -> {
-                    ConfigMappingInterface ci = getConfigurationInterface(enclosingType);
-                    MapProperty property = ci.getProperty(field).asMap();
-                    while (degree + 1 > property.getLevels()) {
-                        property = property.getValueProperty().asMap();
-                    }
-                    if (property.hasKeyConvertWith()) {
-                        return getConverterInstance(property.getKeyConvertWith());
-                    } else {
-                        // todo: replace with generic converter lookup
-                        Class<?> valueRawType = property.getKeyRawType();
-                        if (valueRawType == List.class) {
-                            return Converters.newCollectionConverter(
-                                    config.requireConverter(rawTypeOf(typeOfParameter(property.getKeyType(), 0))),
-                                    ArrayList::new);
-                        } else if (valueRawType == Set.class) {
-                            return Converters.newCollectionConverter(
-                                    config.requireConverter(rawTypeOf(typeOfParameter(property.getKeyType(), 0))),
-                                    HashSet::new);
-                        } else {
-                            return config.requireConverter(valueRawType);
-                        }
-                    }
-                });
+                .computeIfAbsent(field,
+                        x -> FIELD_CONVERTERS.get(enclosingType).getKeyConverter(field, degree).resolve(config));
     }
 
     @SuppressWarnings("unchecked")
     public <T> Converter<T> getConverterInstance(Class<? extends Converter<? extends T>> converterType) {
-        return (Converter<T>) converterInstances.computeIfAbsent(converterType, t -> {
+        return (Converter<T>) CONVERTER_INSTANCES.get(converterType);
+    }
+
+    private static Converter<?> newConverterInstance(final Class<?> converterType) {
+        try {
+            return (Converter<?>) converterType.getConstructor().newInstance();
+        } catch (InstantiationException e) {
+            throw new InstantiationError(e.getMessage());
+        } catch (IllegalAccessException e) {
+            throw new IllegalAccessError(e.getMessage());
+        } catch (InvocationTargetException e) {
             try {
-                return (Converter<T>) t.getConstructor().newInstance();
-            } catch (InstantiationException e) {
-                throw new InstantiationError(e.getMessage());
-            } catch (IllegalAccessException e) {
-                throw new IllegalAccessError(e.getMessage());
-            } catch (InvocationTargetException e) {
-                try {
-                    throw e.getCause();
-                } catch (RuntimeException | Error e2) {
-                    throw e2;
-                } catch (Throwable t2) {
-                    throw new UndeclaredThrowableException(t2);
-                }
-            } catch (NoSuchMethodException e) {
-                throw new NoSuchMethodError(e.getMessage());
+                throw e.getCause();
+            } catch (RuntimeException | Error e2) {
+                throw e2;
+            } catch (Throwable t2) {
+                throw new UndeclaredThrowableException(t2);
             }
-        });
+        } catch (NoSuchMethodException e) {
+            throw new NoSuchMethodError(e.getMessage());
+        }
     }
 
     void applyNamingStrategy(final NamingStrategy namingStrategy) {
@@ -207,6 +232,36 @@ public final class ConfigMappingContext {
         throw new IllegalArgumentException();
     }
 
+    /**
+     * Copies a collection of a mapping to an immutable and compact form, once all its elements are known.
+     *
+     * @param collection the collection to copy
+     * @return the immutable copy
+     */
+    public static <E> Collection<E> freezeCollection(final Collection<E> collection) {
+        return CompactCollections.copyOf(collection);
+    }
+
+    /**
+     * Copies an optional collection of a mapping to an immutable and compact form, once all its elements are known.
+     *
+     * @param collection the optional collection to copy
+     * @return the optional immutable copy
+     */
+    public static <E> Optional<Collection<E>> freezeOptionalCollection(final Optional<Collection<E>> collection) {
+        return collection.isPresent() ? Optional.of(CompactCollections.copyOf(collection.get())) : collection;
+    }
+
+    /**
+     * Copies a map of a mapping to an immutable and compact form, once all its entries are known.
+     *
+     * @param map the map to copy
+     * @return the immutable copy
+     */
+    public static <K, V> Map<K, V> freezeMap(final Map<K, V> map) {
+        return CompactCollections.copyOf(map);
+    }
+
     public NoSuchElementException noSuchElement(Class<?> type) {
         return new NoSuchElementException("A required configuration group of type " + type.getName() + " was not provided");
     }
@@ -240,4 +295,160 @@ public final class ConfigMappingContext {
     Map<Class<?>, Map<String, ConfigMappingObject>> getRootsMap() {
         return roots;
     }
+
+    /**
+     * Resolves how to obtain the converters of the fields of a mapping type. The resolution only depends on the
+     * mapping type, so it is computed once per field and reused by all the mappings.
+     */
+    static final class FieldConverters {
+        private final ConfigMappingInterface mapping;
+        private final Map<String, ConverterResolution> valueConverters = new ConcurrentHashMap<>();
+        private final Map<String, ConverterResolution> keyConverters = new ConcurrentHashMap<>();
+
+        FieldConverters(final ConfigMappingInterface mapping) {
+            this.mapping = mapping;
+        }
+
+        ConverterResolution getValueConverter(final String field) {
+            return valueConverters.computeIfAbsent(field, x -> valueConverter(mapping.getProperty(field)));
+        }
+
+        ConverterResolution getKeyConverter(final String field, final int degree) {
+            return keyConverters.computeIfAbsent(field + '#' + degree, x -> {
+                MapProperty property = mapping.getProperty(field).asMap();
+                while (degree + 1 > property.getLevels()) {
+                    property = property.getValueProperty().asMap();
+                }
+                if (property.hasKeyConvertWith()) {
+                    return new ConverterResolution(CONVERTER_INSTANCES.get(property.getKeyConvertWith()));
+                } else {
+                    // todo: replace with generic converter lookup
+                    Class<?> valueRawType = property.getKeyRawType();
+                    if (valueRawType == List.class) {
+                        return new ConverterResolution(rawTypeOf(typeOfParameter(property.getKeyType(), 0)),
+                                ArrayList::new);
+                    } else if (valueRawType == Set.class) {
+                        return new ConverterResolution(rawTypeOf(typeOfParameter(property.getKeyType(), 0)),
+                                HashSet::new);
+                    } else {
+                        return new ConverterResolution(valueRawType, null);
+                    }
+                }
+            });
+        }
+
+        private static ConverterResolution valueConverter(final Property property) {
+            boolean optional = property.isOptional();
+            if (property.isLeaf() || optional && property.asOptional().getNestedProperty().isLeaf()) {
+                LeafProperty leafProperty = optional ? property.asOptional().getNestedProperty().asLeaf()
+                        : property.asLeaf();
+                if (leafProperty.hasConvertWith()) {
+                    // todo: generics
+                    return new ConverterResolution(CONVERTER_INSTANCES.get(leafProperty.getConvertWith()));
+                } else {
+                    // todo: replace with generic converter lookup
+                    Class<?> valueRawType = leafProperty.getValueRawType();
+                    if (valueRawType == List.class || valueRawType == Set.class) {
+                        return new ConverterResolution(rawTypeOf(typeOfParameter(leafProperty.getValueType(), 0)), null);
+                    } else {
+                        return new ConverterResolution(valueRawType, null);
+                    }
+                }
+            } else if (property.isPrimitive()) {
+                PrimitiveProperty primitiveProperty = property.asPrimitive();
+                if (primitiveProperty.hasConvertWith()) {
+                    return new ConverterResolution(CONVERTER_INSTANCES.get(primitiveProperty.getConvertWith()));
+                } else {
+                    return new ConverterResolution(primitiveProperty.getBoxType(), null);
+                }
+            } else if (property.isCollection() || optional && property.asOptional().getNestedProperty().isCollection()) {
+                CollectionProperty collectionProperty = optional ? property.asOptional().getNestedProperty().asCollection()
+                        : property.asCollection();
+                return valueConverter(collectionProperty.getElement());
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    /**
+     * A resolved converter of a field: either a converter instance, or the type to look up the converter in the
+     * {@link SmallRyeConfig}, optionally wrapped in a collection converter.
+     */
+    static final class ConverterResolution {
+        private final Converter<?> converter;
+        private final Class<?> type;
+        private final IntFunction<? extends Collection<Object>> collectionFactory;
+
+        ConverterResolution(final Converter<?> converter) {
+            this.converter = converter;
+            this.type = null;
+            this.collectionFactory = null;
+        }
+
+        ConverterResolution(final Class<?> type, final IntFunction<? extends Collection<Object>> collectionFactory) {
+            this.converter = null;
+            this.type = type;
+            this.collectionFactory = collectionFactory;
+        }
+
+        Converter<?> resolve(final SmallRyeConfig config) {
+            if (converter != null) {
+                return converter;
+            }
+            Converter<?> converter = config.requireConverter(type);
+            if (collectionFactory != null) {
+                return Converters.newCollectionConverter(converter, collectionFactory);
+            }
+            return converter;
+        }
+    }
+
+    /**
+     * A property value, converted on first access. Once converted, the value is kept and the references to the raw
+     * value and the converter are released.
+     */
+    public static final class LazyValue {
+        private SmallRyeConfig config;
+        private String name;
+        private ConfigValue configValue;
+        private Converter<?> converter;
+        private volatile Object value;
+
+        LazyValue(final Object value) {
+            this.value = value;
+        }
+
+        LazyValue(final SmallRyeConfig config, final String name, final ConfigValue configValue,
+                final Converter<?> converter) {
+            this.config = config;
+            this.name = name;
+            this.configValue = configValue;
+            this.converter = converter;
+        }
+
+        /**
+         * Get the converted value, converting it if this is the first access.
+         *
+         * @return the converted value
+         * @throws IllegalArgumentException if the value cannot be converted
+         */
+        public Object get() {
+            Object value = this.value;
+            if (value == null) {
+                synchronized (this) {
+                    value = this.value;
+                    if (value == null) {
+                        value = config.convertValue(name, configValue, converter);
+                        this.value = value;
+                        this.config = null;
+                        this.name = null;
+                        this.configValue = null;
+                        this.converter = null;
+                    }
+                }
+            }
+            return value;
+        }
+    }
 }
@@ -74,6 +74,7 @@ public class ConfigMappingGenerator {
     private static final String I_LIST = getInternalName(List.class);
     private static final String I_INT_FUNCTION = getInternalName(IntFunction.class);
     private static final String I_MAPPING_CONTEXT = getInternalName(ConfigMappingContext.class);
+    private static final String I_LAZY_VALUE = getInternalName(ConfigMappingContext.LazyValue.class);
     private static final String I_OBJECT = getInternalName(Object.class);
     private static final String I_OPTIONAL = getInternalName(Optional.class);
     private static final String I_RUNTIME_EXCEPTION = getInternalName(RuntimeException.class);
@@ -367,11 +368,6 @@ public class ConfigMappingGenerator {
                 // duplicated property
                 continue;
             }
-            // the field
-            String fieldType = getInternalName(method.getReturnType());
-            String fieldDesc = getDescriptor(method.getReturnType());
-            cv.visitField(Opcodes.ACC_PRIVATE, memberName, fieldDesc, null, null);
-
             // now process the property
             final Property realProperty;
             final boolean optional = property.isOptional();
@@ -381,6 +377,18 @@ public class ConfigMappingGenerator {
                 realProperty = property;
             }
 
+            // the field
+            String fieldType = getInternalName(method.getReturnType());
+            String fieldDesc = getDescriptor(method.getReturnType());
+            cv.visitField(Opcodes.ACC_PRIVATE, memberName, fieldDesc, null, null);
+            // leafs (except primitives) also have a holder, used instead of the field with lazy conversion
+            boolean lazy = realProperty.isLeaf() && !property.isCollection();
+            String lazyName = memberName + "$lazy";
+            String lazyDesc = 'L' + I_LAZY_VALUE + ';';
+            if (lazy) {
+                cv.visitField(Opcodes.ACC_PRIVATE, lazyName, lazyDesc, null, null);
+            }
+
             // now handle each possible type
             if (property.isCollection() || realProperty.isCollection() && optional) {
                 ctor.visitVarInsn(ALOAD, V_THIS);
@@ -510,6 +518,13 @@ public class ConfigMappingGenerator {
                     ctor.visitJumpInsn(GOTO, iter);
                     ctor.visitLabel(each);
 
+                    // freeze the collection
+                    ctor.visitVarInsn(ALOAD, 5);
+                    ctor.visitTypeInsn(CHECKCAST, I_COLLECTION);
+                    ctor.visitMethodInsn(INVOKESTATIC, I_MAPPING_CONTEXT, "freezeCollection",
+                            "(L" + I_COLLECTION + ";)L" + I_COLLECTION + ';', false);
+                    ctor.visitVarInsn(ASTORE, 5);
+
                     // set field value
                     if (optional) {
                         ctor.visitVarInsn(ILOAD, 7);
@@ -546,6 +561,8 @@ public class ConfigMappingGenerator {
                             "(L" + I_CLASS + ";)L" + I_INT_FUNCTION + ";", false);
                     ctor.visitMethodInsn(INVOKEVIRTUAL, I_SMALLRYE_CONFIG, "getOptionalValues",
                             "(L" + I_STRING + ";L" + I_CONVERTER + ";L" + I_INT_FUNCTION + ";)L" + I_OPTIONAL + ';', false);
+                    ctor.visitMethodInsn(INVOKESTATIC, I_MAPPING_CONTEXT, "freezeOptionalCollection",
+                            "(L" + I_OPTIONAL + ";)L" + I_OPTIONAL + ';', false);
                     ctor.visitFieldInsn(Opcodes.PUTFIELD, className, memberName, fieldDesc);
 
                     if (restoreLength) {
@@ -563,6 +580,9 @@ public class ConfigMappingGenerator {
                             "(L" + I_CLASS + ";)L" + I_INT_FUNCTION + ";", false);
                     ctor.visitMethodInsn(INVOKEVIRTUAL, I_SMALLRYE_CONFIG, "getValues",
                             "(L" + I_STRING + ";L" + I_CONVERTER + ";L" + I_INT_FUNCTION + ";)L" + I_COLLECTION + ';', false);
+                    ctor.visitMethodInsn(INVOKESTATIC, I_MAPPING_CONTEXT, "freezeCollection",
+                            "(L" + I_COLLECTION + ";)L" + I_COLLECTION + ';', false);
+                    ctor.visitTypeInsn(CHECKCAST, fieldType);
                     ctor.visitFieldInsn(Opcodes.PUTFIELD, className, memberName, fieldDesc);
                 }
 
@@ -602,6 +622,9 @@ public class ConfigMappingGenerator {
                 // stack: obj
                 fio.visitTypeInsn(Opcodes.CHECKCAST, I_MAP);
                 // stack: map
+                fio.visitMethodInsn(Opcodes.INVOKESTATIC, I_MAPPING_CONTEXT, "freezeMap",
+                        "(L" + I_MAP + ";)L" + I_MAP + ';', false);
+                // stack: map
                 fio.visitVarInsn(Opcodes.ALOAD, V_THIS);
                 // stack: map this
                 fio.visitInsn(Opcodes.SWAP);
@@ -645,6 +668,60 @@ public class ConfigMappingGenerator {
                     restoreLength(ctor);
                 }
             } else if (property.isLeaf() || property.isPrimitive() || property.isOptional() && property.isLeaf()) {
+                // both paths are generated, and the context selects the lazy conversion
+                Label _eager = new Label();
+                Label _done = new Label();
+                if (lazy) {
+                    // stack: -
+                    ctor.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
+                    ctor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_MAPPING_CONTEXT, "isLazyConversion", "()Z", false);
+                    // stack: lazy?
+                    ctor.visitJumpInsn(Opcodes.IFEQ, _eager);
+                    // stack: -
+                    ctor.visitVarInsn(Opcodes.ALOAD, V_THIS);
+                    // stack: this
+                    boolean restoreLength = appendPropertyName(ctor, property);
+                    ctor.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
+                    // stack: this ctxt
+                    ctor.visitVarInsn(Opcodes.ALOAD, V_STRING_BUILDER);
+                    ctor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_STRING_BUILDER, "toString", "()L" + I_STRING + ';', false);
+                    // stack: this ctxt key
+                    ctor.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
+                    ctor.visitLdcInsn(getType(mapping.getInterfaceType()));
+                    ctor.visitLdcInsn(memberName);
+                    ctor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_MAPPING_CONTEXT, "getValueConverter",
+                            "(L" + I_CLASS + ";L" + I_STRING + ";)L" + I_CONVERTER + ';', false);
+                    // stack: this ctxt key converter
+                    Label _try = new Label();
+                    Label _catch = new Label();
+                    Label _continue = new Label();
+                    ctor.visitLabel(_try);
+                    ctor.visitInsn(property.isOptional() ? Opcodes.ICONST_1 : Opcodes.ICONST_0);
+                    // stack: this ctxt key converter optional
+                    ctor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_MAPPING_CONTEXT, "getLazyValue",
+                            "(L" + I_STRING + ";L" + I_CONVERTER + ";Z)L" + I_LAZY_VALUE + ';', false);
+                    // stack: this lazy
+                    ctor.visitFieldInsn(Opcodes.PUTFIELD, className, lazyName, lazyDesc);
+                    // stack: -
+                    ctor.visitJumpInsn(Opcodes.GOTO, _continue);
+                    ctor.visitLabel(_catch);
+                    // stack: exception
+                    ctor.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
+                    // stack: exception ctxt
+                    ctor.visitInsn(Opcodes.SWAP);
+                    // stack: ctxt exception
+                    ctor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_MAPPING_CONTEXT, "reportProblem",
+                            "(L" + I_RUNTIME_EXCEPTION + ";)V", false);
+                    // stack: -
+                    ctor.visitLabel(_continue);
+                    if (restoreLength) {
+                        restoreLength(ctor);
+                    }
+                    // add the try/catch
+                    ctor.visitTryCatchBlock(_try, _catch, _catch, I_RUNTIME_EXCEPTION);
+                    ctor.visitJumpInsn(Opcodes.GOTO, _done);
+                    ctor.visitLabel(_eager);
+                }
                 // stack: -
                 ctor.visitVarInsn(Opcodes.ALOAD, V_THIS);
                 // stack: this
@@ -707,6 +784,7 @@ public class ConfigMappingGenerator {
                 }
                 // add the try/catch
                 ctor.visitTryCatchBlock(_try, _catch, _catch, I_RUNTIME_EXCEPTION);
+                ctor.visitLabel(_done);
             } else if (property.isOptional()) {
                 // stack: -
                 ctor.visitMethodInsn(Opcodes.INVOKESTATIC, I_OPTIONAL, "empty", "()L" + I_OPTIONAL + ";", false);
@@ -753,10 +831,27 @@ public class ConfigMappingGenerator {
             }
 
             // the accessor method implementation
-            MethodVisitor mv = cv.visitMethod(Opcodes.ACC_PUBLIC, memberName, "()" + fieldDesc, null, null);
+            MethodVisitor mv = cv.visitMethod(Opcodes.ACC_PUBLIC, memberName, Type.getMethodDescriptor(method), null, null);
             // stack: -
             mv.visitVarInsn(Opcodes.ALOAD, V_THIS);
             // stack: this
+            if (lazy) {
+                Label _eager = new Label();
+                mv.visitFieldInsn(Opcodes.GETFIELD, className, lazyName, lazyDesc);
+                // stack: lazy?
+                mv.visitInsn(Opcodes.DUP);
+                mv.visitJumpInsn(Opcodes.IFNULL, _eager);
+                // stack: lazy
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_LAZY_VALUE, "get", "()L" + I_OBJECT + ';', false);
+                // stack: value
+                mv.visitTypeInsn(Opcodes.CHECKCAST, fieldType);
+                mv.visitInsn(Opcodes.ARETURN);
+                mv.visitLabel(_eager);
+                // stack: null
+                mv.visitInsn(Opcodes.POP);
+                mv.visitVarInsn(Opcodes.ALOAD, V_THIS);
+                // stack: this
+            }
             mv.visitFieldInsn(Opcodes.GETFIELD, className, memberName, fieldDesc);
             // stack: obj
             if (property.isPrimitive()) {
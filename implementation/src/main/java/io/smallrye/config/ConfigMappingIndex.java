@@ -0,0 +1,516 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigMappingInterface.CollectionProperty;
+import static io.smallrye.config.ConfigMappingInterface.GroupProperty;
+import static io.smallrye.config.ConfigMappingInterface.LeafProperty;
+import static io.smallrye.config.ConfigMappingInterface.MapProperty;
+import static io.smallrye.config.ConfigMappingInterface.MayBeOptionalProperty;
+import static io.smallrye.config.ConfigMappingInterface.NamingStrategy;
+import static io.smallrye.config.ConfigMappingInterface.OptionalProperty;
+import static io.smallrye.config.ConfigMappingInterface.PrimitiveProperty;
+import static io.smallrye.config.ConfigMappingInterface.Property;
+import static io.smallrye.config.ConfigMappingInterface.PropertyMethod;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+/**
+ * The metadata of a {@link ConfigMapping} interface, generated ahead of time with its implementation class by
+ * {@link ConfigMappingClassGenerator}.
+ * <p>
+ *
+ * {@link ConfigMappingInterface} reads the index, when one is found next to the implementation class, instead of
+ * introspecting the methods, annotations and generic types of the interface. The index keeps the names of the types
+ * (loaded without initialization), the property names, the default values and the converters of each property. The
+ * methods of the interface are only looked up if they are requested, which is not required to map the interface with
+ * an implementation class generated ahead of time.
+ * <p>
+ *
+ * The index also keeps the size and CRC32 of the class file of the interface it was generated from. If the class file
+ * does not match, the index is stale: it is ignored, and so is the implementation class generated with it.
+ */
+final class ConfigMappingIndex {
+    private static final int MAGIC = 0x53524d49;
+    private static final int VERSION = 1;
+
+    private static final byte PRIMITIVE = 0;
+    private static final byte OPTIONAL = 1;
+    private static final byte GROUP = 2;
+    private static final byte LEAF = 3;
+    private static final byte MAP = 4;
+    private static final byte COLLECTION = 5;
+
+    private static final byte CLASS = 0;
+    private static final byte PARAMETERIZED = 1;
+    private static final byte WILDCARD = 2;
+    private static final byte ARRAY = 3;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> primitive : new Class<?>[] { boolean.class, byte.class, short.class, int.class, long.class,
+                float.class, double.class, char.class, void.class }) {
+            PRIMITIVES.put(primitive.getName(), primitive);
+        }
+    }
+
+    /**
+     * The status of the index of a configuration interface.
+     */
+    enum Status {
+        /**
+         * No index was found, the interface was introspected.
+         */
+        NONE,
+        /**
+         * The interface was read from the index.
+         */
+        CURRENT,
+        /**
+         * The index does not match the interface, the interface was introspected.
+         */
+        STALE
+    }
+
+    private ConfigMappingIndex() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get the resource name of the index of a configuration interface, next to its implementation class.
+     *
+     * @param interfaceType the interface type
+     * @return the resource name of the index
+     */
+    static String getIndexName(final Class<?> interfaceType) {
+        return ConfigMappingInterface.getImplementationClassName(interfaceType).replace('.', '/') + ".idx";
+    }
+
+    /**
+     * Get the index of a configuration interface, from the class loader of the interface.
+     *
+     * @param interfaceType the interface type
+     * @return the index, or {@code null} if there is no index
+     */
+    static byte[] getIndex(final Class<?> interfaceType) {
+        return getResource(interfaceType, getIndexName(interfaceType));
+    }
+
+    /**
+     * Writes the index of a configuration interface.
+     *
+     * @param mapping the configuration interface
+     * @return the index, or {@code null} if the class file of the interface is not found
+     * @throws IOException if an error occurs while writing the index
+     */
+    static byte[] write(final ConfigMappingInterface mapping) throws IOException {
+        final byte[] classFile = getResource(mapping.getInterfaceType(), getClassFileName(mapping.getInterfaceType()));
+        if (classFile == null) {
+            return null;
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(classFile.length);
+        out.writeLong(crc32(classFile));
+        out.writeUTF(getNamingStrategy(mapping.getNamingStrategy()).name());
+        out.writeInt(mapping.getSuperTypeCount());
+        for (ConfigMappingInterface superType : mapping.getSuperTypes()) {
+            out.writeUTF(superType.getInterfaceType().getName());
+        }
+        out.writeInt(mapping.getPropertyCount());
+        for (Property property : mapping.getProperties()) {
+            writeProperty(out, property);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the index of a configuration interface.
+     *
+     * @param interfaceType the interface type
+     * @param index the index
+     * @return the configuration interface, or {@code null} if the index is stale
+     */
+    static ConfigMappingInterface read(final Class<?> interfaceType, final byte[] index) {
+        try {
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(index));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return stale(interfaceType);
+            }
+            final int length = in.readInt();
+            final long crc = in.readLong();
+            final byte[] classFile = getResource(interfaceType, getClassFileName(interfaceType));
+            if (classFile == null || classFile.length != length || crc32(classFile) != crc) {
+                return stale(interfaceType);
+            }
+
+            final NamingStrategy namingStrategy = ConfigMappingInterface
+                    .getNamingStrategy(ConfigMapping.NamingStrategy.valueOf(in.readUTF()));
+            final ConfigMappingInterface[] superTypes = new ConfigMappingInterface[in.readInt()];
+            for (int i = 0; i < superTypes.length; i++) {
+                superTypes[i] = ConfigMappingInterface.getConfigurationInterface(loadClass(interfaceType, in.readUTF()));
+            }
+            final Property[] properties = new Property[in.readInt()];
+            for (int i = 0; i < properties.length; i++) {
+                properties[i] = readProperty(in, interfaceType);
+            }
+            return new ConfigMappingInterface(interfaceType,
+                    superTypes.length == 0 ? ConfigMappingInterface.NO_TYPES : superTypes,
+                    properties.length == 0 ? ConfigMappingInterface.NO_PROPERTIES : properties,
+                    namingStrategy, Status.CURRENT);
+        } catch (IOException | ClassNotFoundException | IllegalArgumentException e) {
+            return stale(interfaceType);
+        }
+    }
+
+    private static ConfigMappingInterface stale(final Class<?> interfaceType) {
+        ConfigLogging.log.staleConfigMappingIndex(interfaceType.getName());
+        return null;
+    }
+
+    private static void writeProperty(final DataOutputStream out, final Property property) throws IOException {
+        if (property.isPrimitive()) {
+            final PrimitiveProperty primitiveProperty = property.asPrimitive();
+            writePropertyHeader(out, PRIMITIVE, property);
+            out.writeUTF(primitiveProperty.getPrimitiveType().getName());
+            writeClass(out, primitiveProperty.hasConvertWith() ? primitiveProperty.getConvertWith() : null);
+            writeString(out, primitiveProperty.hasDefaultValue() ? primitiveProperty.getDefaultValue() : null);
+        } else if (property.isOptional()) {
+            writePropertyHeader(out, OPTIONAL, property);
+            writeProperty(out, property.asOptional().getNestedProperty());
+        } else if (property.isGroup()) {
+            writePropertyHeader(out, GROUP, property);
+            out.writeUTF(property.asGroup().getGroupType().getInterfaceType().getName());
+        } else if (property.isLeaf()) {
+            final LeafProperty leafProperty = property.asLeaf();
+            writePropertyHeader(out, LEAF, property);
+            writeType(out, leafProperty.getValueType());
+            writeClass(out, leafProperty.getConvertWith());
+            writeString(out, leafProperty.hasDefaultValue() ? leafProperty.getDefaultValue() : null);
+        } else if (property.isMap()) {
+            final MapProperty mapProperty = property.asMap();
+            writePropertyHeader(out, MAP, property);
+            writeType(out, mapProperty.getKeyType());
+            writeClass(out, mapProperty.hasKeyConvertWith() ? mapProperty.getKeyConvertWith() : null);
+            writeProperty(out, mapProperty.getValueProperty());
+        } else if (property.isCollection()) {
+            final CollectionProperty collectionProperty = property.asCollection();
+            out.writeByte(COLLECTION);
+            out.writeUTF(collectionProperty.getCollectionRawType().getName());
+            writeProperty(out, collectionProperty.getElement());
+        } else {
+            throw new IllegalArgumentException(property.getMethodName());
+        }
+    }
+
+    private static void writePropertyHeader(final DataOutputStream out, final byte kind, final Property property)
+            throws IOException {
+        out.writeByte(kind);
+        out.writeUTF(property.getMethodName());
+        writeString(out, property.isParentPropertyName() ? "" : property.hasPropertyName() ? property.getPropertyName() : null);
+    }
+
+    private static Property readProperty(final DataInputStream in, final Class<?> interfaceType)
+            throws IOException, ClassNotFoundException {
+        final byte kind = in.readByte();
+        if (kind == COLLECTION) {
+            final Class<?> collectionType = loadClass(interfaceType, in.readUTF());
+            return new CollectionProperty(collectionType, readProperty(in, interfaceType));
+        }
+
+        final PropertyMethod method = new PropertyMethod(interfaceType, in.readUTF());
+        final String propertyName = readString(in);
+        switch (kind) {
+            case PRIMITIVE:
+                return new PrimitiveProperty(method, propertyName, loadClass(interfaceType, in.readUTF()),
+                        readConverter(in, interfaceType), readString(in));
+            case OPTIONAL:
+                final Property nested = readProperty(in, interfaceType);
+                if (!nested.isMayBeOptional()) {
+                    throw new IllegalArgumentException(method.getName());
+                }
+                return new OptionalProperty(method, propertyName, (MayBeOptionalProperty) nested);
+            case GROUP:
+                return new GroupProperty(method, propertyName,
+                        ConfigMappingInterface.getConfigurationInterface(loadClass(interfaceType, in.readUTF())));
+            case LEAF:
+                return new LeafProperty(method, propertyName, readType(in, interfaceType),
+                        readConverter(in, interfaceType), readString(in));
+            case MAP:
+                return new MapProperty(method, propertyName, readType(in, interfaceType),
+                        readConverter(in, interfaceType), readProperty(in, interfaceType));
+            default:
+                throw new IllegalArgumentException(method.getName());
+        }
+    }
+
+    private static void writeType(final DataOutputStream out, final Type type) throws IOException {
+        if (type instanceof Class<?>) {
+            out.writeByte(CLASS);
+            out.writeUTF(((Class<?>) type).getName());
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            out.writeByte(PARAMETERIZED);
+            writeType(out, parameterizedType.getRawType());
+            out.writeBoolean(parameterizedType.getOwnerType() != null);
+            if (parameterizedType.getOwnerType() != null) {
+                writeType(out, parameterizedType.getOwnerType());
+            }
+            writeTypes(out, parameterizedType.getActualTypeArguments());
+        } else if (type instanceof WildcardType) {
+            out.writeByte(WILDCARD);
+            writeTypes(out, ((WildcardType) type).getUpperBounds());
+            writeTypes(out, ((WildcardType) type).getLowerBounds());
+        } else if (type instanceof GenericArrayType) {
+            out.writeByte(ARRAY);
+            writeType(out, ((GenericArrayType) type).getGenericComponentType());
+        } else {
+            throw ConfigMessages.msg.noRawType(type);
+        }
+    }
+
+    private static void writeTypes(final DataOutputStream out, final Type[] types) throws IOException {
+        out.writeInt(types.length);
+        for (Type type : types) {
+            writeType(out, type);
+        }
+    }
+
+    private static Type readType(final DataInputStream in, final Class<?> interfaceType)
+            throws IOException, ClassNotFoundException {
+        final byte kind = in.readByte();
+        switch (kind) {
+            case CLASS:
+                return loadClass(interfaceType, in.readUTF());
+            case PARAMETERIZED:
+                final Type rawType = readType(in, interfaceType);
+                final Type ownerType = in.readBoolean() ? readType(in, interfaceType) : null;
+                return new ParameterizedTypeImpl(rawType, ownerType, readTypes(in, interfaceType));
+            case WILDCARD:
+                return new WildcardTypeImpl(readTypes(in, interfaceType), readTypes(in, interfaceType));
+            case ARRAY:
+                return new GenericArrayTypeImpl(readType(in, interfaceType));
+            default:
+                throw new IllegalArgumentException(Byte.toString(kind));
+        }
+    }
+
+    private static Type[] readTypes(final DataInputStream in, final Class<?> interfaceType)
+            throws IOException, ClassNotFoundException {
+        final Type[] types = new Type[in.readInt()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = readType(in, interfaceType);
+        }
+        return types;
+    }
+
+    private static void writeClass(final DataOutputStream out, final Class<?> type) throws IOException {
+        writeString(out, type != null ? type.getName() : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Converter<?>> readConverter(final DataInputStream in, final Class<?> interfaceType)
+            throws IOException, ClassNotFoundException {
+        final String name = readString(in);
+        return name != null ? (Class<? extends Converter<?>>) loadClass(interfaceType, name) : null;
+    }
+
+    private static void writeString(final DataOutputStream out, final String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) {
+            out.writeUTF(string);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static Class<?> loadClass(final Class<?> interfaceType, final String name) throws ClassNotFoundException {
+        final Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, interfaceType.getClassLoader());
+    }
+
+    private static ConfigMapping.NamingStrategy getNamingStrategy(final NamingStrategy namingStrategy) {
+        if (namingStrategy instanceof ConfigMappingInterface.VerbatimNamingStrategy) {
+            return ConfigMapping.NamingStrategy.VERBATIM;
+        } else if (namingStrategy instanceof ConfigMappingInterface.SnakeNamingStrategy) {
+            return ConfigMapping.NamingStrategy.SNAKE_CASE;
+        } else {
+            return ConfigMapping.NamingStrategy.KEBAB_CASE;
+        }
+    }
+
+    private static String getClassFileName(final Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    private static byte[] getResource(final Class<?> type, final String name) {
+        final ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            if (in == null) {
+                return null;
+            }
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static long crc32(final byte[] bytes) {
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    private static final class ParameterizedTypeImpl implements ParameterizedType {
+        private final Type rawType;
+        private final Type ownerType;
+        private final Type[] actualTypeArguments;
+
+        ParameterizedTypeImpl(final Type rawType, final Type ownerType, final Type[] actualTypeArguments) {
+            this.rawType = rawType;
+            this.ownerType = ownerType;
+            this.actualTypeArguments = actualTypeArguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return actualTypeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return ownerType;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof ParameterizedType)) {
+                return false;
+            }
+            final ParameterizedType that = (ParameterizedType) o;
+            return rawType.equals(that.getRawType()) && Objects.equals(ownerType, that.getOwnerType())
+                    && Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ rawType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder(rawType.getTypeName()).append('<');
+            for (int i = 0; i < actualTypeArguments.length; i++) {
+                sb.append(i > 0 ? ", " : "").append(actualTypeArguments[i].getTypeName());
+            }
+            return sb.append('>').toString();
+        }
+    }
+
+    private static final class WildcardTypeImpl implements WildcardType {
+        private final Type[] upperBounds;
+        private final Type[] lowerBounds;
+
+        WildcardTypeImpl(final Type[] upperBounds, final Type[] lowerBounds) {
+            this.upperBounds = upperBounds;
+            this.lowerBounds = lowerBounds;
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return upperBounds.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return lowerBounds.clone();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof WildcardType)) {
+                return false;
+            }
+            final WildcardType that = (WildcardType) o;
+            return Arrays.equals(upperBounds, that.getUpperBounds()) && Arrays.equals(lowerBounds, that.getLowerBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(upperBounds) ^ Arrays.hashCode(lowerBounds);
+        }
+
+        @Override
+        public String toString() {
+            if (lowerBounds.length > 0) {
+                return "? super " + lowerBounds[0].getTypeName();
+            }
+            return upperBounds.length == 0 || upperBounds[0] == Object.class ? "?"
+                    : "? extends " + upperBounds[0].getTypeName();
+        }
+    }
+
+    private static final class GenericArrayTypeImpl implements GenericArrayType {
+        private final Type genericComponentType;
+
+        GenericArrayTypeImpl(final Type genericComponentType) {
+            this.genericComponentType = genericComponentType;
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return genericComponentType;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof GenericArrayType
+                    && genericComponentType.equals(((GenericArrayType) o).getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return genericComponentType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return genericComponentType.getTypeName() + "[]";
+        }
+    }
+}
@@ -39,15 +39,22 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
     private final Property[] properties;
     private final Map<String, Property> propertiesByName;
     private final NamingStrategy namingStrategy;
+    private final ConfigMappingIndex.Status indexStatus;
 
     ConfigMappingInterface(final Class<?> interfaceType, final ConfigMappingInterface[] superTypes,
             final Property[] properties) {
+        this(interfaceType, superTypes, properties, getNamingStrategy(interfaceType), ConfigMappingIndex.Status.NONE);
+    }
+
+    ConfigMappingInterface(final Class<?> interfaceType, final ConfigMappingInterface[] superTypes,
+            final Property[] properties, final NamingStrategy namingStrategy, final ConfigMappingIndex.Status indexStatus) {
         this.interfaceType = interfaceType;
-        this.className = interfaceType.getName() + interfaceType.getName().hashCode() + "Impl";
+        this.className = getImplementationClassName(interfaceType);
         this.superTypes = superTypes;
         this.properties = properties;
         this.propertiesByName = toPropertiesMap(properties);
-        this.namingStrategy = getNamingStrategy(interfaceType);
+        this.namingStrategy = namingStrategy;
+        this.indexStatus = indexStatus;
     }
 
     /**
@@ -61,6 +68,17 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         return cv.get(interfaceType);
     }
 
+    /**
+     * Get the name of the implementation class of a configuration interface. The name only depends on the interface
+     * name, so it does not require the interface to be introspected.
+     *
+     * @param interfaceType the interface type (must not be {@code null})
+     * @return the name of the implementation class
+     */
+    static String getImplementationClassName(Class<?> interfaceType) {
+        return interfaceType.getName() + interfaceType.getName().hashCode() + "Impl";
+    }
+
     /**
      * Get the configuration interface type.
      *
@@ -134,6 +152,16 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         return namingStrategy;
     }
 
+    /**
+     * Get the status of the {@link ConfigMappingIndex} of this configuration interface: the interface was read from a
+     * current index, was introspected because the index is stale, or has no index.
+     *
+     * @return the status of the index
+     */
+    ConfigMappingIndex.Status getIndexStatus() {
+        return indexStatus;
+    }
+
     public String getClassName() {
         return className;
     }
@@ -153,15 +181,23 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
     }
 
     public static abstract class Property {
-        private final Method method;
+        private final PropertyMethod method;
         private final String propertyName;
 
-        Property(final Method method, final String propertyName) {
+        Property(final PropertyMethod method, final String propertyName) {
             this.method = method;
             this.propertyName = propertyName;
         }
 
         public Method getMethod() {
+            return method.getMethod();
+        }
+
+        public String getMethodName() {
+            return method.getName();
+        }
+
+        PropertyMethod getPropertyMethod() {
             return method;
         }
 
@@ -238,7 +274,7 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
     }
 
     public static abstract class MayBeOptionalProperty extends Property {
-        MayBeOptionalProperty(final Method method, final String propertyName) {
+        MayBeOptionalProperty(final PropertyMethod method, final String propertyName) {
             super(method, propertyName);
         }
 
@@ -316,7 +352,7 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         private final Class<? extends Converter<?>> convertWith;
         private final String defaultValue;
 
-        PrimitiveProperty(final Method method, final String propertyName, final Class<?> primitiveType,
+        PrimitiveProperty(final PropertyMethod method, final String propertyName, final Class<?> primitiveType,
                 final Class<? extends Converter<?>> convertWith, final String defaultValue) {
             super(method, propertyName);
             this.primitiveType = primitiveType;
@@ -370,7 +406,7 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
     public static final class OptionalProperty extends Property {
         private final MayBeOptionalProperty nestedProperty;
 
-        OptionalProperty(final Method method, final String propertyName, final MayBeOptionalProperty nestedProperty) {
+        OptionalProperty(final PropertyMethod method, final String propertyName, final MayBeOptionalProperty nestedProperty) {
             super(method, propertyName);
             this.nestedProperty = nestedProperty;
         }
@@ -398,7 +434,7 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
     public static final class GroupProperty extends MayBeOptionalProperty {
         private final ConfigMappingInterface groupType;
 
-        GroupProperty(final Method method, final String propertyName, final ConfigMappingInterface groupType) {
+        GroupProperty(final PropertyMethod method, final String propertyName, final ConfigMappingInterface groupType) {
             super(method, propertyName);
             this.groupType = groupType;
         }
@@ -424,7 +460,7 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         private final Class<?> rawType;
         private final String defaultValue;
 
-        LeafProperty(final Method method, final String propertyName, final Type valueType,
+        LeafProperty(final PropertyMethod method, final String propertyName, final Type valueType,
                 final Class<? extends Converter<?>> convertWith, final String defaultValue) {
             super(method, propertyName);
             this.valueType = valueType;
@@ -473,7 +509,7 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         private final Class<? extends Converter<?>> keyConvertWith;
         private final Property valueProperty;
 
-        MapProperty(final Method method, final String propertyName, final Type keyType,
+        MapProperty(final PropertyMethod method, final String propertyName, final Type keyType,
                 final Class<? extends Converter<?>> keyConvertWith, final Property valueProperty) {
             super(method, propertyName);
             this.keyType = keyType;
@@ -525,7 +561,7 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         private final Property element;
 
         CollectionProperty(final Class<?> collectionType, final Property element) {
-            super(element.getMethod(), element.hasPropertyName() ? element.getPropertyName() : null);
+            super(element.getPropertyMethod(), element.hasPropertyName() ? element.getPropertyName() : null);
             this.collectionRawType = collectionType;
             this.element = element;
         }
@@ -549,8 +585,59 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         }
     }
 
+    /**
+     * The method of a property. A property read from a {@link ConfigMappingIndex} only keeps the method name, and the
+     * {@link Method} is only looked up if it is requested.
+     */
+    static final class PropertyMethod {
+        private final Class<?> declaringType;
+        private final String name;
+        private volatile Method method;
+
+        PropertyMethod(final Method method) {
+            this.declaringType = method.getDeclaringClass();
+            this.name = method.getName();
+            this.method = method;
+        }
+
+        PropertyMethod(final Class<?> declaringType, final String name) {
+            this.declaringType = declaringType;
+            this.name = name;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Method getMethod() {
+            Method method = this.method;
+            if (method == null) {
+                try {
+                    method = declaringType.getDeclaredMethod(name);
+                } catch (NoSuchMethodException e) {
+                    throw new NoSuchMethodError(e.getMessage());
+                }
+                this.method = method;
+            }
+            return method;
+        }
+    }
+
     private static ConfigMappingInterface createConfigurationInterface(Class<?> interfaceType) {
-        if (!interfaceType.isInterface() || interfaceType.getTypeParameters().length != 0) {
+        if (!interfaceType.isInterface()) {
+            return null;
+        }
+        // a current index replaces the introspection of the interface
+        ConfigMappingIndex.Status indexStatus = ConfigMappingIndex.Status.NONE;
+        final byte[] index = ConfigMappingIndex.getIndex(interfaceType);
+        if (index != null) {
+            final ConfigMappingInterface indexed = ConfigMappingIndex.read(interfaceType, index);
+            if (indexed != null) {
+                return indexed;
+            }
+            indexStatus = ConfigMappingIndex.Status.STALE;
+        }
+        if (interfaceType.getTypeParameters().length != 0) {
             return null;
         }
         // first, find any supertypes
@@ -558,7 +645,8 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         // now find any properties
         Property[] properties = getProperties(interfaceType.getDeclaredMethods(), 0, 0);
         // is it anything?
-        return new ConfigMappingInterface(interfaceType, superTypes, properties);
+        return new ConfigMappingInterface(interfaceType, superTypes, properties, getNamingStrategy(interfaceType),
+                indexStatus);
     }
 
     private static ConfigMappingInterface[] getSuperTypes(Class<?>[] interfaces, int si, int ti) {
@@ -599,26 +687,26 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
         if (method.getReturnType() == void.class) {
             throw new IllegalArgumentException("Void config methods are not allowed");
         }
-        Property p = getPropertyDef(method, method.getGenericReturnType());
+        Property p = getPropertyDef(new PropertyMethod(method), method.getGenericReturnType());
         Property[] array = getProperties(methods, si + 1, ti + 1);
         array[ti] = p;
         return array;
     }
 
-    private static Property getPropertyDef(Method method, Type type) {
+    private static Property getPropertyDef(PropertyMethod method, Type type) {
         // now figure out what kind it is
         Class<? extends Converter<?>> convertWith = getConvertWith(type);
         if (convertWith == null) {
-            WithConverter withConverter = method.getAnnotation(WithConverter.class);
+            WithConverter withConverter = method.getMethod().getAnnotation(WithConverter.class);
             if (withConverter != null) {
                 convertWith = withConverter.value();
             }
         }
-        String propertyName = getPropertyName(method);
+        String propertyName = getPropertyName(method.getMethod());
         Class<?> rawType = rawTypeOf(type);
         if (rawType.isPrimitive()) {
             // primitive!
-            WithDefault annotation = method.getAnnotation(WithDefault.class);
+            WithDefault annotation = method.getMethod().getAnnotation(WithDefault.class);
             return new PrimitiveProperty(method, propertyName, rawType, convertWith,
                     annotation == null ? null : annotation.value());
         }
@@ -645,7 +733,7 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
                     return new CollectionProperty(rawType, new GroupProperty(method, propertyName, configurationInterface));
                 }
 
-                WithDefault annotation = method.getAnnotation(WithDefault.class);
+                WithDefault annotation = method.getMethod().getAnnotation(WithDefault.class);
                 return new CollectionProperty(rawType, new LeafProperty(method, propertyName, elementType, null,
                         annotation == null ? null : annotation.value()));
             }
@@ -659,13 +747,13 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
 
         if (rawType == List.class || rawType == Set.class) {
             Type elementType = typeOfParameter(type, 0);
-            WithDefault annotation = method.getAnnotation(WithDefault.class);
+            WithDefault annotation = method.getMethod().getAnnotation(WithDefault.class);
             return new CollectionProperty(rawType,
                     new LeafProperty(method, propertyName, elementType, null, annotation == null ? null : annotation.value()));
         }
 
         // otherwise it's a leaf
-        WithDefault annotation = method.getAnnotation(WithDefault.class);
+        WithDefault annotation = method.getMethod().getAnnotation(WithDefault.class);
         return new LeafProperty(method, propertyName, type, convertWith, annotation == null ? null : annotation.value());
     }
 
@@ -706,7 +794,7 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
     private static Map<String, Property> toPropertiesMap(final Property[] properties) {
         Map<String, Property> map = new HashMap<>();
         for (Property p : properties) {
-            map.put(p.getMethod().getName(), p);
+            map.put(p.getMethodName(), p);
         }
         return map;
     }
@@ -775,19 +863,23 @@ public final class ConfigMappingInterface implements ConfigMappingMetadata {
     private static NamingStrategy getNamingStrategy(final Class<?> interfaceType) {
         final ConfigMapping configMapping = interfaceType.getAnnotation(ConfigMapping.class);
         if (configMapping != null) {
-            switch (configMapping.namingStrategy()) {
-                case VERBATIM:
-                    return VERBATIM_NAMING_STRATEGY;
-                case KEBAB_CASE:
-                    return KEBAB_CASE_NAMING_STRATEGY;
-                case SNAKE_CASE:
-                    return SNAKE_CASE_NAMING_STRATEGY;
-            }
+            return getNamingStrategy(configMapping.namingStrategy());
         }
 
         return KEBAB_CASE_NAMING_STRATEGY;
     }
 
+    static NamingStrategy getNamingStrategy(final ConfigMapping.NamingStrategy namingStrategy) {
+        switch (namingStrategy) {
+            case VERBATIM:
+                return VERBATIM_NAMING_STRATEGY;
+            case SNAKE_CASE:
+                return SNAKE_CASE_NAMING_STRATEGY;
+            default:
+                return KEBAB_CASE_NAMING_STRATEGY;
+        }
+    }
+
     private static final NamingStrategy VERBATIM_NAMING_STRATEGY = new VerbatimNamingStrategy();
     private static final NamingStrategy KEBAB_CASE_NAMING_STRATEGY = new KebabNamingStrategy();
     private static final NamingStrategy SNAKE_CASE_NAMING_STRATEGY = new SnakeNamingStrategy();
@@ -1,8 +1,8 @@
 package io.smallrye.config;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,33 +48,27 @@ public final class ConfigMappingLoader {
     }
 
     static <T> T configMappingObject(Class<T> interfaceType, ConfigMappingContext configMappingContext) {
-        ConfigMappingObject instance;
-        try {
-            Constructor<? extends ConfigMappingObject> constructor = CACHE.get(interfaceType).getImplementationClass()
-                    .getDeclaredConstructor(ConfigMappingContext.class);
-            instance = constructor.newInstance(configMappingContext);
-        } catch (NoSuchMethodException e) {
-            throw new NoSuchMethodError(e.getMessage());
-        } catch (InstantiationException e) {
-            throw new InstantiationError(e.getMessage());
-        } catch (IllegalAccessException e) {
-            throw new IllegalAccessError(e.getMessage());
-        } catch (InvocationTargetException e) {
-            try {
-                throw e.getCause();
-            } catch (RuntimeException | Error e2) {
-                throw e2;
-            } catch (Throwable t) {
-                throw new UndeclaredThrowableException(t);
-            }
-        }
-        return interfaceType.cast(instance);
+        return interfaceType.cast(CACHE.get(interfaceType).newInstance(configMappingContext));
     }
 
     @SuppressWarnings("unchecked")
     static <T> Class<? extends ConfigMappingObject> getImplementationClass(Class<T> type) {
-        final ConfigMappingMetadata mappingMetadata = ConfigMappingInterface.getConfigurationInterface(type);
-        return (Class<? extends ConfigMappingObject>) loadClass(type, mappingMetadata);
+        final ConfigMappingInterface mappingMetadata = ConfigMappingInterface.getConfigurationInterface(type);
+        switch (mappingMetadata.getIndexStatus()) {
+            case CURRENT:
+                // generated ahead of time, with the index the interface was read from
+                try {
+                    return (Class<? extends ConfigMappingObject>) type.getClassLoader()
+                            .loadClass(mappingMetadata.getClassName());
+                } catch (ClassNotFoundException e) {
+                    return (Class<? extends ConfigMappingObject>) loadClass(type, mappingMetadata);
+                }
+            case STALE:
+                // the implementation generated ahead of time does not match the interface either
+                return (Class<? extends ConfigMappingObject>) defineClass(type, mappingMetadata);
+            default:
+                return (Class<? extends ConfigMappingObject>) loadClass(type, mappingMetadata);
+        }
     }
 
     static Class<?> loadClass(final Class<?> parent, final ConfigMappingMetadata configMappingMetadata) {
@@ -82,7 +76,20 @@ public final class ConfigMappingLoader {
         try {
             return parent.getClassLoader().loadClass(configMappingMetadata.getClassName());
         } catch (ClassNotFoundException e) {
+            return defineClass(parent, configMappingMetadata);
+        }
+    }
+
+    private static Class<?> defineClass(final Class<?> parent, final ConfigMappingMetadata configMappingMetadata) {
+        try {
             return defineClass(parent, configMappingMetadata.getClassName(), configMappingMetadata.getClassBytes());
+        } catch (LinkageError linkageError) {
+            // the class may have been defined concurrently, when roots are mapped in parallel
+            try {
+                return parent.getClassLoader().loadClass(configMappingMetadata.getClassName());
+            } catch (ClassNotFoundException notFound) {
+                throw linkageError;
+            }
         }
     }
 
@@ -98,14 +105,39 @@ public final class ConfigMappingLoader {
     }
 
     private static final class ConfigMappingObjectHolder {
+        private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, ConfigMappingContext.class);
+
         private final Class<? extends ConfigMappingObject> implementationClass;
+        /**
+         * The constructor of the implementation class, resolved once per mapping type, with the exact type
+         * {@code (ConfigMappingContext)ConfigMappingObject}.
+         */
+        private final MethodHandle constructor;
 
         ConfigMappingObjectHolder(final Class<? extends ConfigMappingObject> implementationClass) {
             this.implementationClass = implementationClass;
+            try {
+                this.constructor = MethodHandles.publicLookup().findConstructor(implementationClass, CONSTRUCTOR_TYPE)
+                        .asType(MethodType.methodType(ConfigMappingObject.class, ConfigMappingContext.class));
+            } catch (NoSuchMethodException e) {
+                throw new NoSuchMethodError(e.getMessage());
+            } catch (IllegalAccessException e) {
+                throw new IllegalAccessError(e.getMessage());
+            }
         }
 
         public Class<? extends ConfigMappingObject> getImplementationClass() {
             return implementationClass;
         }
+
+        ConfigMappingObject newInstance(final ConfigMappingContext configMappingContext) {
+            try {
+                return (ConfigMappingObject) constructor.invokeExact(configMappingContext);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            }
+        }
     }
 }
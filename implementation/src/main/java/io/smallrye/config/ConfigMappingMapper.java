@@ -0,0 +1,99 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigMappingLoader.getConfigMappingClass;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Maps a {@link ConfigMapping} from a {@link Map} of property values, for instance to convert a structured value to a
+ * mapping.
+ * <p>
+ *
+ * The mapping metadata and the {@link SmallRyeConfig} used to look up and convert the values are created once, and
+ * reused by every call to {@link #map(Map)}. The values of each call are only visible to the thread performing the
+ * call, so the mapper can be shared. A call from a converter running inside another call of the same mapper restores
+ * the values of the outer call when it returns. Unknown properties are not validated, and the values are not expanded.
+ *
+ * @param <T> the {@code ConfigMapping} type
+ */
+@Experimental("Map a ConfigMapping from a Map of property values")
+public final class ConfigMappingMapper<T> {
+    private final Class<T> type;
+    private final String prefix;
+    private final Class<?> mappingClass;
+    private final ConfigMappingProvider mappingProvider;
+    private final ThreadLocal<Map<String, String>> values = new ThreadLocal<>();
+    private final SmallRyeConfig config;
+
+    /**
+     * Creates a mapper of a {@link ConfigMapping} type.
+     *
+     * @param type the {@code ConfigMapping} type
+     * @param prefix the prefix of the property names of the mapping
+     */
+    public ConfigMappingMapper(final Class<T> type, final String prefix) {
+        this.type = type;
+        this.prefix = prefix;
+        this.mappingClass = getConfigMappingClass(type);
+        this.mappingProvider = ConfigMappingProvider.builder().addRoot(prefix, type).validateUnknown(false).build();
+        this.config = new SmallRyeConfigBuilder().withSources(new ValuesConfigSource(values)).build();
+        this.mappingProvider.registerDefaults(config);
+    }
+
+    /**
+     * Maps the {@link ConfigMapping} from property values.
+     *
+     * @param properties the property values, with the names of the mapping properties, including the prefix
+     * @return the mapping
+     * @throws ConfigValidationException if the values do not map to the {@code ConfigMapping}
+     */
+    public T map(final Map<String, String> properties) throws ConfigValidationException {
+        final Map<String, String> previous = values.get();
+        values.set(properties);
+        try {
+            final ConfigMappingObject mappingObject = mappingProvider.mapRoots(config, config.getPropertyNames())
+                    .get(mappingClass)
+                    .get(prefix);
+            return type.cast(mappingObject instanceof ConfigMappingClassMapper
+                    ? ((ConfigMappingClassMapper) mappingObject).map()
+                    : mappingObject);
+        } finally {
+            if (previous != null) {
+                values.set(previous);
+            } else {
+                values.remove();
+            }
+        }
+    }
+
+    private static final class ValuesConfigSource implements ConfigSource {
+        private final ThreadLocal<Map<String, String>> values;
+
+        ValuesConfigSource(final ThreadLocal<Map<String, String>> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            final Map<String, String> properties = values.get();
+            return properties != null ? properties.keySet() : Collections.emptySet();
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            final Map<String, String> properties = values.get();
+            return properties != null ? properties.get(propertyName) : null;
+        }
+
+        @Override
+        public String getName() {
+            return ConfigMappingMapper.class.getSimpleName();
+        }
+    }
+}
@@ -13,11 +13,18 @@ import static io.smallrye.config.common.utils.StringUtil.replaceNonAlphanumericB
 import java.io.Serializable;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 
@@ -48,24 +55,37 @@ final class ConfigMappingProvider implements Serializable {
     }
 
     private final Map<String, List<Class<?>>> roots;
-    private final KeyMap<BiConsumer<ConfigMappingContext, NameIterator>> matchActions;
+    /**
+     * The segments of all the roots paths, to match if a property belongs to any of the roots in a single walk.
+     */
+    private final KeyMap<Boolean> rootsIndex;
+    private final ImmutableKeyMap<BiConsumer<ConfigMappingContext, NameIterator>> matchActions;
     private final KeyMap<String> defaultValues;
     private final boolean validateUnknown;
+    private final boolean lazy;
+    private final boolean parallel;
+    private final Executor executor;
+    private final boolean lazyConversion;
+    private final boolean validateConversion;
 
     ConfigMappingProvider(final Builder builder) {
         this.roots = new HashMap<>(builder.roots);
         final ArrayDeque<String> currentPath = new ArrayDeque<>();
         KeyMap<BiConsumer<ConfigMappingContext, NameIterator>> matchActions = new KeyMap<>();
         KeyMap<String> defaultValues = new KeyMap<>();
+        KeyMap<Boolean> rootsIndex = new KeyMap<>();
         for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
             NameIterator rootNi = new NameIterator(entry.getKey());
+            KeyMap<Boolean> rootIndex = rootsIndex;
             while (rootNi.hasNext()) {
                 final String nextSegment = rootNi.getNextSegment();
                 if (!nextSegment.isEmpty()) {
                     currentPath.add(nextSegment);
+                    rootIndex = rootIndex.computeIfAbsent(nextSegment, k -> new KeyMap<>());
                 }
                 rootNi.next();
             }
+            rootIndex.putRootValue(Boolean.TRUE);
             List<Class<?>> roots = entry.getValue();
             for (Class<?> root : roots) {
                 // construct the lazy match actions for each group
@@ -88,9 +108,15 @@ final class ConfigMappingProvider implements Serializable {
                 found.putRootValue(DO_NOTHING);
             }
         }
-        this.matchActions = matchActions;
+        this.rootsIndex = rootsIndex;
+        this.matchActions = ImmutableKeyMap.copyOf(matchActions);
         this.defaultValues = defaultValues;
         this.validateUnknown = builder.validateUnknown;
+        this.lazy = builder.lazy;
+        this.parallel = builder.parallel;
+        this.executor = builder.executor;
+        this.lazyConversion = builder.lazyConversion;
+        this.validateConversion = builder.validateConversion;
     }
 
     static String skewer(String camelHumps) {
@@ -215,7 +241,7 @@ final class ConfigMappingProvider implements Serializable {
         HashSet<String> usedProperties = new HashSet<>();
         for (int i = 0; i < pc; i++) {
             Property property = group.getProperty(i);
-            String memberName = property.getMethod().getName();
+            String memberName = property.getMethodName();
             if (usedProperties.add(memberName)) {
                 // process by property type
                 if (!property.isParentPropertyName()) {
@@ -367,7 +393,7 @@ final class ConfigMappingProvider implements Serializable {
                     ni.next();
                 }
             }
-            if (usedProperties.add(property.getMethod().getName())) {
+            if (usedProperties.add(property.getMethodName())) {
                 boolean optional = property.isOptional();
                 processLazyPropertyInGroup(currentPath, matchActions, defaultValues, getEnclosingFunction, matchAction,
                         usedProperties, namingStrategy, group, optional, property);
@@ -601,7 +627,7 @@ final class ConfigMappingProvider implements Serializable {
         public ConfigMappingObject apply(final ConfigMappingContext context, final NameIterator ni) {
             ConfigMappingObject ourEnclosing = delegate.apply(context, ni);
             Class<?> enclosingType = enclosingGroup.getInterfaceType();
-            String key = indexName(enclosedGroup.getMethod().getName(), path, ni);
+            String key = indexName(enclosedGroup.getMethodName(), path, ni);
             ConfigMappingObject val = (ConfigMappingObject) context.getEnclosedField(enclosingType, key, ourEnclosing);
             context.applyNamingStrategy(enclosingGroup.getNamingStrategy());
             if (val == null) {
@@ -671,7 +697,7 @@ final class ConfigMappingProvider implements Serializable {
             ni.next();
             String mapKey = ni.getPreviousSegment();
             Converter<?> keyConverter = context.getKeyConverter(enclosingGroup.getInterfaceType(),
-                    enclosingMap.getMethod().getName(), enclosingMap.getLevels() - 1);
+                    enclosingMap.getMethodName(), enclosingMap.getLevels() - 1);
             ConfigMappingObject val = (ConfigMappingObject) ourEnclosing.get(mapKey);
             context.applyNamingStrategy(enclosingGroup.getNamingStrategy());
             if (val == null) {
@@ -711,7 +737,7 @@ final class ConfigMappingProvider implements Serializable {
             if (consumeName)
                 ni.next();
             Class<?> enclosingType = enclosingGroup.getInterfaceType();
-            String methodName = property.getMethod().getName();
+            String methodName = property.getMethodName();
             context.applyNamingStrategy(enclosingGroup.getNamingStrategy());
             Map<?, ?> val = (Map<?, ?>) context.getEnclosedField(enclosingType, methodName, ourEnclosing);
             if (val == null) {
@@ -754,7 +780,7 @@ final class ConfigMappingProvider implements Serializable {
         ni.previous();
         Map<?, ?> ourEnclosing = getEnclosingMap.apply(context, ni);
         String mapKey = ni.getNextSegment();
-        Converter<?> keyConverter = context.getKeyConverter(enclosingGroup.getInterfaceType(), property.getMethod().getName(),
+        Converter<?> keyConverter = context.getKeyConverter(enclosingGroup.getInterfaceType(), property.getMethodName(),
                 property.getLevels() - 1);
         Object realKey = keyConverter.convert(mapKey);
         Map<?, ?> map = (Map<?, ?>) ourEnclosing.get(realKey);
@@ -775,14 +801,25 @@ final class ConfigMappingProvider implements Serializable {
     }
 
     void mapConfiguration(SmallRyeConfig config) throws ConfigValidationException {
+        registerDefaults(config);
+        mapConfiguration(config, config.getConfigMappings());
+    }
+
+    void registerDefaults(SmallRyeConfig config) {
         for (ConfigSource configSource : config.getConfigSources()) {
             if (configSource instanceof DefaultValuesConfigSource) {
                 final DefaultValuesConfigSource defaultValuesConfigSource = (DefaultValuesConfigSource) configSource;
                 defaultValuesConfigSource.registerDefaults(this.getDefaultValues());
             }
         }
+    }
 
-        mapConfiguration(config, config.getConfigMappings());
+    /**
+     * Maps the roots with the given property names, without registering the mapped roots in the config.
+     */
+    Map<Class<?>, Map<String, ConfigMappingObject>> mapRoots(final SmallRyeConfig config, final Iterable<String> names)
+            throws ConfigValidationException {
+        return mapRoots(config, new MappingSettings(validateUnknown, lazyConversion, validateConversion), roots, names);
     }
 
     private void mapConfiguration(SmallRyeConfig config, ConfigMappings mappings) throws ConfigValidationException {
@@ -791,22 +828,80 @@ final class ConfigMappingProvider implements Serializable {
         }
 
         Assert.checkNotNullParam("config", config);
-        ConfigMappingContext context = new ConfigMappingContext(config);
-        // eagerly populate roots
+        final MappingSettings settings = new MappingSettings(validateUnknown(validateUnknown, config), lazyConversion,
+                validateConversion);
+        if (lazy) {
+            mappings.registerLazyConfigMappings(lazyRoots(config, settings));
+        } else if (parallel) {
+            mappings.registerConfigMappings(mapRootsInParallel(config, settings));
+        } else {
+            mappings.registerConfigMappings(mapRoots(config, settings, roots, config.getPropertyNames()));
+        }
+    }
+
+    /**
+     * Maps a set of roots, in phases: construct the roots, match the property names, validate and fill in the
+     * optionals. The time spent in each phase is logged in debug.
+     */
+    private Map<Class<?>, Map<String, ConfigMappingObject>> mapRoots(
+            final SmallRyeConfig config,
+            final MappingSettings settings,
+            final Map<String, List<Class<?>>> roots,
+            final Iterable<String> names) throws ConfigValidationException {
+
+        final boolean timed = ConfigLogging.log.isDebugEnabled();
+        final long start = timed ? System.nanoTime() : 0;
+
+        ConfigMappingContext context = new ConfigMappingContext(config, settings.lazyConversion, settings.validateConversion);
+        constructRoots(context, roots);
+        final long constructed = timed ? System.nanoTime() : 0;
+
+        Set<String> unknownProperties = matchProperties(context, settings, names);
+        final long matched = timed ? System.nanoTime() : 0;
+
+        unknownProperties(unknownProperties, context);
+        context.validateLazyValues();
+        ArrayList<ConfigValidationException.Problem> problems = context.getProblems();
+        if (!problems.isEmpty()) {
+            throw new ConfigValidationException(problems.toArray(ConfigValidationException.Problem.NO_PROBLEMS));
+        }
+        final long validated = timed ? System.nanoTime() : 0;
+
+        context.fillInOptionals();
+        if (timed) {
+            final long filled = System.nanoTime();
+            ConfigLogging.log.mappingPhases(roots.keySet().toString(), micros(filled - start), micros(constructed - start),
+                    micros(matched - constructed), micros(validated - matched), micros(filled - validated));
+        }
+
+        return context.getRootsMap();
+    }
+
+    private static void constructRoots(final ConfigMappingContext context, final Map<String, List<Class<?>>> roots) {
         for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
             String path = entry.getKey();
-            List<Class<?>> roots = entry.getValue();
-            for (Class<?> root : roots) {
+            List<Class<?>> rootTypes = entry.getValue();
+            for (Class<?> root : rootTypes) {
                 StringBuilder sb = context.getStringBuilder();
                 sb.replace(0, sb.length(), path);
                 ConfigMappingObject group = (ConfigMappingObject) context.constructRoot(root);
                 context.registerRoot(root, path, group);
             }
         }
+    }
+
+    /**
+     * Applies the match action of each property name in the roots.
+     *
+     * @return the property names in the roots without a match action, if unknown properties are validated
+     */
+    private Set<String> matchProperties(
+            final ConfigMappingContext context,
+            final MappingSettings settings,
+            final Iterable<String> names) {
 
-        // lazily sweep
         Set<String> unknownProperties = new HashSet<>();
-        for (String name : config.getPropertyNames()) {
+        for (String name : names) {
             NameIterator ni = new NameIterator(name);
             // filter properties in root
             if (!isPropertyInRoot(ni)) {
@@ -816,64 +911,154 @@ final class ConfigMappingProvider implements Serializable {
             BiConsumer<ConfigMappingContext, NameIterator> action = matchActions.findRootValue(ni);
             if (action != null) {
                 action.accept(context, ni);
+            } else if (settings.validateUnknown) {
+                unknownProperties.add(name);
+            }
+        }
+        return unknownProperties;
+    }
+
+    private static long micros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * Splits the roots in groups that can be mapped independently, keyed by the first segment of the roots paths.
+     * Roots sharing the first segment of their path may match the same properties, so these are mapped together. A
+     * root with an empty path matches every property, so all the roots are in the same group in that case.
+     */
+    private Map<String, Map<String, List<Class<?>>>> groupRoots() {
+        final Map<String, Map<String, List<Class<?>>>> groups = new TreeMap<>();
+        if (roots.containsKey("")) {
+            groups.put("", roots);
+        } else {
+            for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
+                groups.computeIfAbsent(new NameIterator(entry.getKey()).getNextSegment(), k -> new HashMap<>())
+                        .put(entry.getKey(), entry.getValue());
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Maps each group of roots in its own {@link ConfigMappingContext}, in the {@link Executor} of the builder, or the
+     * common {@link ForkJoinPool} if none was set. The tasks run with the context class loader of the caller, so
+     * classes and services are resolved as when the roots are mapped by the caller. The mapped roots and the problems
+     * are merged in the order of the groups, so the result does not depend on the order in which the groups complete.
+     */
+    private Map<Class<?>, Map<String, ConfigMappingObject>> mapRootsInParallel(
+            final SmallRyeConfig config,
+            final MappingSettings settings) throws ConfigValidationException {
+        final Map<String, Map<String, List<Class<?>>>> groups = groupRoots();
+        if (groups.size() == 1) {
+            return mapRoots(config, settings, roots, config.getPropertyNames());
+        }
+
+        final PropertyNamesIndex names = new PropertyNamesIndex(config);
+        final ClassLoader classLoader = SecuritySupport.getContextClassLoader();
+        final List<CompletableFuture<MappedRoots>> tasks = new ArrayList<>(groups.size());
+        for (Map.Entry<String, Map<String, List<Class<?>>>> group : groups.entrySet()) {
+            tasks.add(CompletableFuture.supplyAsync(() -> {
+                final ClassLoader previous = SecuritySupport.getContextClassLoader();
+                SecuritySupport.setContextClassLoader(classLoader);
+                try {
+                    return new MappedRoots(mapRoots(config, settings, group.getValue(), names.get(group.getKey())),
+                            null);
+                } catch (ConfigValidationException e) {
+                    return new MappedRoots(null, e);
+                } finally {
+                    SecuritySupport.setContextClassLoader(previous);
+                }
+            }, executor != null ? executor : ForkJoinPool.commonPool()));
+        }
+
+        final Map<Class<?>, Map<String, ConfigMappingObject>> mapped = new HashMap<>();
+        final List<ConfigValidationException.Problem> problems = new ArrayList<>();
+        for (CompletableFuture<MappedRoots> task : tasks) {
+            final MappedRoots mappedRoots = join(task);
+            if (mappedRoots.problems != null) {
+                for (int i = 0; i < mappedRoots.problems.getProblemCount(); i++) {
+                    problems.add(mappedRoots.problems.getProblem(i));
+                }
             } else {
-                if (validateUnknown(validateUnknown, config)) {
-                    unknownProperties.add(name);
+                for (Map.Entry<Class<?>, Map<String, ConfigMappingObject>> entry : mappedRoots.roots.entrySet()) {
+                    mapped.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).putAll(entry.getValue());
                 }
             }
         }
 
-        unknownProperties(unknownProperties, context);
-        ArrayList<ConfigValidationException.Problem> problems = context.getProblems();
         if (!problems.isEmpty()) {
             throw new ConfigValidationException(problems.toArray(ConfigValidationException.Problem.NO_PROBLEMS));
         }
-        context.fillInOptionals();
-
-        mappings.registerConfigMappings(context.getRootsMap());
+        return mapped;
     }
 
-    private boolean isPropertyInRoot(NameIterator propertyName) {
-        final Set<String> registeredRoots = roots.keySet();
-        for (String registeredRoot : registeredRoots) {
-            // match everything
-            if (registeredRoot.length() == 0) {
-                return true;
+    private static MappedRoots join(final CompletableFuture<MappedRoots> task) {
+        try {
+            return task.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
             }
+            throw e;
+        }
+    }
 
-            // A sub property from a namespace is always bigger in length
-            if (propertyName.getName().length() <= registeredRoot.length()) {
-                continue;
-            }
+    private static final class MappedRoots {
+        private final Map<Class<?>, Map<String, ConfigMappingObject>> roots;
+        private final ConfigValidationException problems;
 
-            final NameIterator root = new NameIterator(registeredRoot);
-            // compare segments
-            while (root.hasNext()) {
-                String segment = root.getNextSegment();
-                if (!propertyName.hasNext()) {
-                    propertyName.goToStart();
-                    break;
-                }
+        MappedRoots(final Map<Class<?>, Map<String, ConfigMappingObject>> roots, final ConfigValidationException problems) {
+            this.roots = roots;
+            this.problems = problems;
+        }
+    }
 
-                final String nextSegment = propertyName.getNextSegment();
-                if (!segment.equals(normalizeIfIndexed(nextSegment))) {
-                    propertyName.goToStart();
-                    break;
+    /**
+     * Creates the groups of roots that are mapped together on first access.
+     */
+    private Map<Class<?>, Map<String, LazyRoots>> lazyRoots(final SmallRyeConfig config, final MappingSettings settings) {
+        final Map<String, Map<String, List<Class<?>>>> groups = groupRoots();
+        final PropertyNamesIndex names = new PropertyNamesIndex(config);
+        final Map<Class<?>, Map<String, LazyRoots>> lazyRoots = new HashMap<>();
+        for (Map.Entry<String, Map<String, List<Class<?>>>> group : groups.entrySet()) {
+            final LazyRoots lazyGroup = new LazyRoots(this, config, settings, group.getValue(), names,
+                    group.getKey());
+            for (Map.Entry<String, List<Class<?>>> entry : group.getValue().entrySet()) {
+                for (Class<?> root : entry.getValue()) {
+                    lazyRoots.computeIfAbsent(root, k -> new HashMap<>()).put(entry.getKey(), lazyGroup);
                 }
+            }
+        }
+        return lazyRoots;
+    }
+
+    private boolean isPropertyInRoot(NameIterator propertyName) {
+        // match everything
+        if (rootsIndex.hasRootValue()) {
+            return true;
+        }
 
-                root.next();
+        try {
+            KeyMap<Boolean> rootIndex = rootsIndex;
+            while (propertyName.hasNext()) {
+                rootIndex = rootIndex.get(normalizeIfIndexed(propertyName.getNextSegment()));
+                if (rootIndex == null) {
+                    return false;
+                }
                 propertyName.next();
 
-                // root has no more segments and we reached this far so everything matched.
-                // on top, property still has more segments to do the mapping.
-                if (!root.hasNext() && propertyName.hasNext()) {
-                    propertyName.goToStart();
+                // a root has no more segments and the property still has more segments to do the mapping.
+                if (rootIndex.hasRootValue() && propertyName.hasNext()) {
                     return true;
                 }
             }
+            return false;
+        } finally {
+            propertyName.goToStart();
         }
-
-        return false;
     }
 
     private static String normalizeIfIndexed(final String propertyName) {
@@ -891,35 +1076,163 @@ final class ConfigMappingProvider implements Serializable {
     }
 
     private static void unknownProperties(Set<String> properties, ConfigMappingContext context) {
+        if (properties.isEmpty()) {
+            return;
+        }
+
+        // the used properties, in the canonical form, to match the unknown properties with a single lookup
         Set<String> usedProperties = new HashSet<>();
         for (String property : context.getConfig().getPropertyNames()) {
-            if (properties.contains(property)) {
+            if (properties.contains(property) || properties.contains(replaceNonAlphanumericByUnderscores(property))) {
                 continue;
             }
 
-            usedProperties.add(replaceNonAlphanumericByUnderscores(property));
+            usedProperties.add(toCanonicalName(property));
         }
-        usedProperties.removeAll(properties);
 
         for (String property : properties) {
-            boolean found = false;
-            for (String usedProperty : usedProperties) {
-                if (usedProperty.equalsIgnoreCase(replaceNonAlphanumericByUnderscores(property))) {
-                    found = true;
-                    break;
+            if (!usedProperties.contains(toCanonicalName(property))) {
+                context.unknownConfigElement(property);
+            }
+        }
+    }
+
+    /**
+     * Replaces the non-alphanumeric characters by underscores and converts the name to upper case. Two names have the
+     * same canonical form if they are equal ignoring case, after replacing the non-alphanumeric characters by
+     * underscores.
+     */
+    private static String toCanonicalName(final String name) {
+        int length = name.length();
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if ('a' <= c && c <= 'z') {
+                chars[i] = (char) (c - ('a' - 'A'));
+            } else if ('A' <= c && c <= 'Z' || '0' <= c && c <= '9') {
+                chars[i] = c;
+            } else {
+                chars[i] = '_';
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * The mapping settings, resolved once from the {@link Builder} and the configuration, before any root is mapped.
+     */
+    static final class MappingSettings implements Serializable {
+        private static final long serialVersionUID = -6516484431287541742L;
+
+        final boolean validateUnknown;
+        final boolean lazyConversion;
+        final boolean validateConversion;
+
+        MappingSettings(final boolean validateUnknown, final boolean lazyConversion, final boolean validateConversion) {
+            this.validateUnknown = validateUnknown;
+            this.lazyConversion = lazyConversion;
+            this.validateConversion = validateConversion;
+        }
+    }
+
+    /**
+     * A group of roots which are only mapped when one of them is requested for the first time. The mapped roots are
+     * published once, and shared by all the callers.
+     */
+    static final class LazyRoots implements Serializable {
+        private static final long serialVersionUID = -1936446278457232218L;
+
+        private final ConfigMappingProvider provider;
+        private final SmallRyeConfig config;
+        private final MappingSettings settings;
+        private final Map<String, List<Class<?>>> roots;
+        private final PropertyNamesIndex names;
+        private final String segment;
+
+        private volatile Map<Class<?>, Map<String, ConfigMappingObject>> mapped;
+
+        LazyRoots(
+                final ConfigMappingProvider provider,
+                final SmallRyeConfig config,
+                final MappingSettings settings,
+                final Map<String, List<Class<?>>> roots,
+                final PropertyNamesIndex names,
+                final String segment) {
+            this.provider = provider;
+            this.config = config;
+            this.settings = settings;
+            this.roots = roots;
+            this.names = names;
+            this.segment = segment;
+        }
+
+        Map<Class<?>, Map<String, ConfigMappingObject>> get() throws ConfigValidationException {
+            Map<Class<?>, Map<String, ConfigMappingObject>> mapped = this.mapped;
+            if (mapped == null) {
+                synchronized (this) {
+                    mapped = this.mapped;
+                    if (mapped == null) {
+                        this.mapped = mapped = provider.mapRoots(config, settings, roots, names.get(segment));
+                    }
                 }
             }
-            if (!found) {
-                context.unknownConfigElement(property);
+            return mapped;
+        }
+    }
+
+    /**
+     * The configuration property names, indexed by their first segment. The index is only built when the first
+     * group of lazy roots is mapped, and then shared by the remaining groups.
+     */
+    static final class PropertyNamesIndex implements Serializable {
+        private static final long serialVersionUID = 4462880512311512339L;
+
+        private final SmallRyeConfig config;
+
+        private volatile Map<String, List<String>> index;
+
+        PropertyNamesIndex(final SmallRyeConfig config) {
+            this.config = config;
+        }
+
+        Iterable<String> get(final String segment) {
+            if (segment.isEmpty()) {
+                return config.getPropertyNames();
             }
+
+            Map<String, List<String>> index = this.index;
+            if (index == null) {
+                synchronized (this) {
+                    index = this.index;
+                    if (index == null) {
+                        index = new HashMap<>();
+                        for (String name : config.getPropertyNames()) {
+                            NameIterator ni = new NameIterator(name);
+                            if (ni.hasNext()) {
+                                index.computeIfAbsent(normalizeIfIndexed(ni.getNextSegment()), k -> new ArrayList<>())
+                                        .add(name);
+                            }
+                        }
+                        this.index = index;
+                    }
+                }
+            }
+            return index.getOrDefault(segment, Collections.emptyList());
         }
     }
 
-    public static final class Builder {
+    public static final class Builder implements Serializable {
+        private static final long serialVersionUID = 3977667610888849912L;
+
         final Set<Class<?>> types = new HashSet<>();
         final Map<String, List<Class<?>>> roots = new HashMap<>();
         final List<String[]> ignored = new ArrayList<>();
         boolean validateUnknown = true;
+        boolean lazy = false;
+        boolean parallel = false;
+        transient Executor executor;
+        boolean lazyConversion = false;
+        boolean validateConversion = false;
 
         Builder() {
         }
@@ -943,6 +1256,52 @@ final class ConfigMappingProvider implements Serializable {
             return this;
         }
 
+        public Builder lazy(boolean lazy) {
+            this.lazy = lazy;
+            return this;
+        }
+
+        public Builder parallel(boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder lazyConversion(boolean lazyConversion) {
+            this.lazyConversion = lazyConversion;
+            return this;
+        }
+
+        public Builder validateConversion(boolean validateConversion) {
+            this.validateConversion = validateConversion;
+            return this;
+        }
+
+        /**
+         * Copies the roots and the settings of this builder, to build the {@link ConfigMappingProvider} again. The
+         * builder is small, compared to the {@link ConfigMappingProvider}, which keeps the match actions and the
+         * default values of every root.
+         */
+        Builder copy() {
+            final Builder copy = new Builder();
+            copy.types.addAll(types);
+            for (Map.Entry<String, List<Class<?>>> root : roots.entrySet()) {
+                copy.roots.put(root.getKey(), new ArrayList<>(root.getValue()));
+            }
+            copy.ignored.addAll(ignored);
+            copy.validateUnknown = validateUnknown;
+            copy.lazy = lazy;
+            copy.parallel = parallel;
+            copy.executor = executor;
+            copy.lazyConversion = lazyConversion;
+            copy.validateConversion = validateConversion;
+            return copy;
+        }
+
         public ConfigMappingProvider build() {
             // We don't validate for MP ConfigProperties, so if all classes are MP ConfigProperties disable validation.
             boolean allConfigurationProperties = true;
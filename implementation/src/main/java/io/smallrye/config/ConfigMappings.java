@@ -17,15 +17,63 @@ public final class ConfigMappings implements Serializable {
     private static final long serialVersionUID = -7790784345796818526L;
 
     private final ConfigValidator configValidator;
+    /**
+     * The roots and settings of the mappings, to build the {@link ConfigMappingProvider} again for a
+     * {@link ConfigSnapshot}. The {@link ConfigMappingProvider} itself is not kept after the mapping. This is the
+     * builder of the {@link SmallRyeConfigBuilder}, not a copy, and it is never changed.
+     */
+    private final ConfigMappingProvider.Builder mappingsBuilder;
     private final ConcurrentMap<Class<?>, Map<String, ConfigMappingObject>> mappings;
-
-    ConfigMappings(final ConfigValidator configValidator) {
+    private final ConcurrentMap<Class<?>, Map<String, ConfigMappingProvider.LazyRoots>> lazyMappings;
+    /**
+     * The mappings already validated, by the requested type and prefix. Mappings are immutable, so these only need
+     * to be validated once.
+     */
+    private final ConcurrentMap<Class<?>, Map<String, ConfigMappingObject>> validatedMappings;
+
+    ConfigMappings(final ConfigValidator configValidator, final ConfigMappingProvider.Builder mappingsBuilder) {
         this.configValidator = configValidator;
+        this.mappingsBuilder = mappingsBuilder;
         this.mappings = new ConcurrentHashMap<>();
+        this.lazyMappings = new ConcurrentHashMap<>();
+        this.validatedMappings = new ConcurrentHashMap<>();
     }
 
     void registerConfigMappings(final Map<Class<?>, Map<String, ConfigMappingObject>> mappings) {
-        this.mappings.putAll(mappings);
+        for (Map.Entry<Class<?>, Map<String, ConfigMappingObject>> entry : mappings.entrySet()) {
+            final Map<String, ConfigMappingObject> mappingsForType = this.mappings.computeIfAbsent(entry.getKey(),
+                    k -> new ConcurrentHashMap<>());
+            for (Map.Entry<String, ConfigMappingObject> prefix : entry.getValue().entrySet()) {
+                final ConfigMappingObject previous = mappingsForType.put(prefix.getKey(), prefix.getValue());
+                if (previous != null && previous != prefix.getValue()) {
+                    // the validation of the replaced mapping does not apply to the new one
+                    for (Map<String, ConfigMappingObject> validatedForType : validatedMappings.values()) {
+                        validatedForType.remove(prefix.getKey(), previous);
+                    }
+                }
+            }
+        }
+    }
+
+    ConfigValidator getConfigValidator() {
+        return configValidator;
+    }
+
+    ConfigMappingProvider.Builder getMappingsBuilder() {
+        return mappingsBuilder;
+    }
+
+    /**
+     * The mappings already mapped, by type and prefix. Lazy mappings are only included once mapped.
+     */
+    Map<Class<?>, Map<String, ConfigMappingObject>> getMappings() {
+        return mappings;
+    }
+
+    void registerLazyConfigMappings(final Map<Class<?>, Map<String, ConfigMappingProvider.LazyRoots>> lazyMappings) {
+        for (Map.Entry<Class<?>, Map<String, ConfigMappingProvider.LazyRoots>> entry : lazyMappings.entrySet()) {
+            this.lazyMappings.computeIfAbsent(entry.getKey(), k -> new ConcurrentHashMap<>()).putAll(entry.getValue());
+        }
     }
 
     public static void registerConfigMappings(final SmallRyeConfig config, final Set<ConfigClassWithPrefix> configClasses)
@@ -68,24 +116,69 @@ public final class ConfigMappings implements Serializable {
             return getConfigMapping(type);
         }
 
-        final Map<String, ConfigMappingObject> mappingsForType = mappings.get(getConfigMappingClass(type));
-        if (mappingsForType == null) {
-            throw ConfigMessages.msg.mappingNotFound(type.getName());
+        final Map<String, ConfigMappingObject> validatedForType = validatedMappings.get(type);
+        ConfigMappingObject configMappingObject = validatedForType != null ? validatedForType.get(prefix) : null;
+        if (configMappingObject != null) {
+            return type.cast(mappingValue(configMappingObject));
         }
 
-        final ConfigMappingObject configMappingObject = mappingsForType.get(prefix);
-        if (configMappingObject == null) {
-            throw ConfigMessages.msg.mappingPrefixNotFound(type.getName(), prefix);
-        }
+        configMappingObject = getConfigMappingObject(type, prefix);
+        final Object value = mappingValue(configMappingObject);
+        configValidator.validateMapping(type, prefix, value);
+        cacheValidated(type, prefix, configMappingObject);
 
-        Object value = configMappingObject;
+        return type.cast(value);
+    }
+
+    /**
+     * Caches a validated mapping, unless a concurrent {@link #registerConfigMappings(Map)} replaced it while it was
+     * validated. The check runs in the same {@code compute} of the prefix as the eviction of a replaced mapping, so a
+     * replaced mapping is never cached after its eviction.
+     */
+    private void cacheValidated(final Class<?> type, final String prefix, final ConfigMappingObject configMappingObject) {
+        final Class<?> mappingClass = getConfigMappingClass(type);
+        validatedMappings.computeIfAbsent(type, k -> new ConcurrentHashMap<>()).compute(prefix, (k, validated) -> {
+            final Map<String, ConfigMappingObject> mappingsForType = mappings.get(mappingClass);
+            if (mappingsForType != null && mappingsForType.get(prefix) == configMappingObject) {
+                return configMappingObject;
+            }
+            return validated;
+        });
+    }
+
+    /**
+     * A class mapping is copied to a new instance of the class on each retrieval, since the class may be mutable. The
+     * copy holds the same values, so it does not require a new validation.
+     */
+    private static Object mappingValue(final ConfigMappingObject configMappingObject) {
         if (configMappingObject instanceof ConfigMappingClassMapper) {
-            value = ((ConfigMappingClassMapper) configMappingObject).map();
+            return ((ConfigMappingClassMapper) configMappingObject).map();
         }
+        return configMappingObject;
+    }
 
-        configValidator.validateMapping(type, prefix, value);
+    private ConfigMappingObject getConfigMappingObject(final Class<?> type, final String prefix) {
+        final Class<?> mappingClass = getConfigMappingClass(type);
+        final Map<String, ConfigMappingObject> mappingsForType = mappings.get(mappingClass);
+        final Map<String, ConfigMappingProvider.LazyRoots> lazyMappingsForType = lazyMappings.get(mappingClass);
+        if (mappingsForType == null && lazyMappingsForType == null) {
+            throw ConfigMessages.msg.mappingNotFound(type.getName());
+        }
 
-        return type.cast(value);
+        ConfigMappingObject configMappingObject = mappingsForType != null ? mappingsForType.get(prefix) : null;
+        if (configMappingObject == null && lazyMappingsForType != null) {
+            final ConfigMappingProvider.LazyRoots lazyRoots = lazyMappingsForType.get(prefix);
+            if (lazyRoots != null) {
+                // maps the roots on first access; registering the same mapped roots again is harmless
+                registerConfigMappings(lazyRoots.get());
+                configMappingObject = mappings.get(mappingClass).get(prefix);
+            }
+        }
+
+        if (configMappingObject == null) {
+            throw ConfigMessages.msg.mappingPrefixNotFound(type.getName(), prefix);
+        }
+        return configMappingObject;
     }
 
     static String getPrefix(Class<?> type) {
@@ -0,0 +1,295 @@
+package io.smallrye.config;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * An estimate of the heap retained by a {@link SmallRyeConfig}, per {@link ConfigSource} and per mapping root, and of
+ * the {@link String} instances with duplicated content.
+ * <p>
+ *
+ * The sizes are estimated for a 64-bit JVM with compressed references and compact strings, by walking the
+ * properties of each source and the fields of each mapping object. An object reachable from multiple sources or
+ * mappings is only counted once, in the first source or mapping that reaches it. Mappings which are not mapped yet
+ * (see {@link SmallRyeConfigBuilder#withLazyMappings(boolean)}) are not included.
+ */
+@Experimental("Estimate of the memory retained by the configuration")
+public final class ConfigMemoryReport {
+    private final Map<String, Long> configSources;
+    private final Map<String, Long> mappings;
+    private final long strings;
+    private final long uniqueStrings;
+    private final long duplicatedStringsSize;
+
+    private ConfigMemoryReport(final Map<String, Long> configSources, final Map<String, Long> mappings,
+            final long strings, final long uniqueStrings, final long duplicatedStringsSize) {
+        this.configSources = Collections.unmodifiableMap(configSources);
+        this.mappings = Collections.unmodifiableMap(mappings);
+        this.strings = strings;
+        this.uniqueStrings = uniqueStrings;
+        this.duplicatedStringsSize = duplicatedStringsSize;
+    }
+
+    static ConfigMemoryReport of(final SmallRyeConfig config) {
+        final Estimator estimator = new Estimator();
+
+        final Map<String, Long> configSources = new LinkedHashMap<>();
+        for (ConfigSource configSource : config.getConfigSources()) {
+            configSources.merge(configSource.getName(), estimator.sizeOf(configSource), Long::sum);
+        }
+
+        final Map<String, Long> mappings = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, Map<String, ConfigMappingObject>> type : config.getConfigMappings().getMappings()
+                .entrySet()) {
+            for (Map.Entry<String, ConfigMappingObject> root : type.getValue().entrySet()) {
+                mappings.put(root.getKey() + " (" + type.getKey().getName() + ")", estimator.sizeOf(root.getValue()));
+            }
+        }
+
+        return new ConfigMemoryReport(configSources, mappings, estimator.strings, estimator.stringsByContent.size(),
+                estimator.duplicatedStringsSize);
+    }
+
+    /**
+     * @return the estimated size in bytes of each {@link ConfigSource}, by name, in the order of the sources
+     */
+    public Map<String, Long> getConfigSources() {
+        return configSources;
+    }
+
+    /**
+     * @return the estimated size in bytes of each mapping root, by prefix and type
+     */
+    public Map<String, Long> getMappings() {
+        return mappings;
+    }
+
+    /**
+     * @return the number of {@link String} instances found
+     */
+    public long getStrings() {
+        return strings;
+    }
+
+    /**
+     * @return the number of different {@link String} contents found
+     */
+    public long getUniqueStrings() {
+        return uniqueStrings;
+    }
+
+    /**
+     * @return the estimated size in bytes of the {@link String} instances with the same content of another instance
+     */
+    public long getDuplicatedStringsSize() {
+        return duplicatedStringsSize;
+    }
+
+    /**
+     * @return the estimated size in bytes of all the sources and mapping roots
+     */
+    public long getTotalSize() {
+        long total = 0;
+        for (Long size : configSources.values()) {
+            total += size;
+        }
+        for (Long size : mappings.values()) {
+            total += size;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Config memory (estimated): ").append(getTotalSize()).append(" bytes").append(System.lineSeparator());
+        for (Map.Entry<String, Long> entry : configSources.entrySet()) {
+            sb.append("  source ").append(entry.getKey()).append(": ").append(entry.getValue()).append(" bytes")
+                    .append(System.lineSeparator());
+        }
+        for (Map.Entry<String, Long> entry : mappings.entrySet()) {
+            sb.append("  mapping ").append(entry.getKey()).append(": ").append(entry.getValue()).append(" bytes")
+                    .append(System.lineSeparator());
+        }
+        sb.append("  strings: ").append(strings).append(", unique: ").append(uniqueStrings).append(", duplicated: ")
+                .append(duplicatedStringsSize).append(" bytes");
+        return sb.toString();
+    }
+
+    /**
+     * Estimates the size of object graphs, counting each object once.
+     */
+    private static final class Estimator {
+        private static final int HEADER = 12;
+        private static final int ARRAY_HEADER = 16;
+        private static final int REFERENCE = 4;
+        private static final int MAP_ENTRY = 32;
+
+        private final IdentityHashMap<Object, Boolean> visited = new IdentityHashMap<>();
+        private final Map<Class<?>, Long> shallowSizes = new HashMap<>();
+        private final Map<String, Integer> stringsByContent = new HashMap<>();
+        private long strings;
+        private long duplicatedStringsSize;
+
+        long sizeOf(final ConfigSource configSource) {
+            if (visited.put(configSource, Boolean.TRUE) != null) {
+                return 0;
+            }
+            long size = shallowSizeOf(configSource.getClass());
+            if (configSource instanceof MappedConfigSource) {
+                // the properties are not in the heap
+                return size;
+            }
+            if (configSource instanceof ConfigValueConfigSource) {
+                size += sizeOf(((ConfigValueConfigSource) configSource).getConfigValueProperties());
+            } else if (configSource instanceof KeyMapBackedConfigSource) {
+                size += sizeOf(((KeyMapBackedConfigSource) configSource).getKeyMapProperties());
+            } else {
+                size += sizeOf(configSource.getProperties());
+            }
+            return size;
+        }
+
+        long sizeOf(final Object object) {
+            if (object == null || object instanceof Class || object instanceof Enum || object instanceof SmallRyeConfig
+                    || object instanceof ConfigSource || object instanceof Converter || object instanceof ClassLoader) {
+                return 0;
+            }
+            if (visited.put(object, Boolean.TRUE) != null) {
+                return 0;
+            }
+
+            if (object instanceof String) {
+                final String string = (String) object;
+                final long size = sizeOf(string);
+                strings++;
+                if (stringsByContent.merge(string, 1, Integer::sum) > 1) {
+                    duplicatedStringsSize += size;
+                }
+                return size;
+            }
+
+            final Class<?> type = object.getClass();
+            if (type.isArray()) {
+                final int length = Array.getLength(object);
+                final Class<?> componentType = type.getComponentType();
+                if (componentType.isPrimitive()) {
+                    return align(ARRAY_HEADER + (long) length * primitiveSize(componentType));
+                }
+                long size = align(ARRAY_HEADER + (long) length * REFERENCE);
+                for (int i = 0; i < length; i++) {
+                    size += sizeOf(Array.get(object, i));
+                }
+                return size;
+            }
+
+            if (object instanceof KeyMap) {
+                final KeyMap<?> keyMap = (KeyMap<?>) object;
+                return sizeOfMap(keyMap) + sizeOf(keyMap.getAny()) + (keyMap.hasRootValue() ? sizeOf(keyMap.getRootValue())
+                        : 0);
+            }
+            if (object instanceof Map) {
+                return sizeOfMap((Map<?, ?>) object);
+            }
+            if (object instanceof Collection) {
+                final Collection<?> collection = (Collection<?>) object;
+                long size = shallowSizeOf(type) + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+                for (Object element : collection) {
+                    size += sizeOf(element);
+                }
+                return size;
+            }
+            if (object instanceof Optional) {
+                return shallowSizeOf(type) + sizeOf(((Optional<?>) object).orElse(null));
+            }
+
+            long size = shallowSizeOf(type);
+            if (isPlatformType(type)) {
+                // internals of platform types are not accessible
+                return size;
+            }
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        size += sizeOf(field.get(object));
+                    } catch (RuntimeException | IllegalAccessException e) {
+                        // not accessible, only the reference is counted
+                    }
+                }
+            }
+            return size;
+        }
+
+        private long sizeOfMap(final Map<?, ?> map) {
+            long size = shallowSizeOf(map.getClass()) + align(ARRAY_HEADER + (long) map.size() * 2 * REFERENCE)
+                    + (long) map.size() * MAP_ENTRY;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += sizeOf(entry.getKey());
+                size += sizeOf(entry.getValue());
+            }
+            return size;
+        }
+
+        private long shallowSizeOf(final Class<?> type) {
+            return shallowSizes.computeIfAbsent(type, t -> {
+                long size = HEADER;
+                for (Class<?> current = t; current != null; current = current.getSuperclass()) {
+                    for (Field field : current.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers())) {
+                            size += field.getType().isPrimitive() ? primitiveSize(field.getType()) : REFERENCE;
+                        }
+                    }
+                }
+                return align(size);
+            });
+        }
+
+        private static long sizeOf(final String string) {
+            boolean latin1 = true;
+            for (int i = 0; i < string.length() && latin1; i++) {
+                latin1 = string.charAt(i) < 256;
+            }
+            // the String object and the backing array
+            return 24 + align(ARRAY_HEADER + (long) string.length() * (latin1 ? 1 : 2));
+        }
+
+        private static int primitiveSize(final Class<?> type) {
+            if (type == long.class || type == double.class) {
+                return 8;
+            } else if (type == int.class || type == float.class) {
+                return 4;
+            } else if (type == short.class || type == char.class) {
+                return 2;
+            } else {
+                return 1;
+            }
+        }
+
+        private static boolean isPlatformType(final Class<?> type) {
+            final String name = type.getName();
+            return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                    || name.startsWith("sun.");
+        }
+
+        private static long align(final long size) {
+            return size + 7 & ~7L;
+        }
+    }
+}
@@ -146,4 +146,21 @@ public interface ConfigMessages {
     @Message(id = 42, value = "Value does not match the expected map format \"<key1>=<value1>;<key2>=<value2>...\" (value was \"%s\")")
     NoSuchElementException valueNotMatchMapFormat(String value);
 
+    @Message(id = 43, value = "Expected a duration value, got \"%s\"")
+    IllegalArgumentException durationExpected(@Cause Throwable cause, String value);
+
+    @Message(id = 44, value = "Expected a data size value, got \"%s\"")
+    IllegalArgumentException dataSizeExpected(String value);
+
+    @Message(id = 45, value = "Expected a %s value, got \"%s\"")
+    IllegalArgumentException temporalExpected(@Cause Throwable cause, String type, String value);
+
+    @Message(id = 46, value = "The number of property names (%d) does not match the number of converters (%d)")
+    IllegalArgumentException namesAndConvertersMismatch(int names, int converters);
+
+    @Message(id = 47, value = "%s does not contain configuration values in the binary format")
+    IllegalArgumentException invalidBinaryConfigValues(String location);
+
+    @Message(id = 48, value = "A SmallRyeConfigBuilder built from a ConfigSnapshot cannot have any other configuration")
+    IllegalStateException snapshotWithConfiguration();
 }
@@ -0,0 +1,90 @@
+package io.smallrye.config;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.config.SmallRyeConfig.ConfigSourceInterceptorWithPriority;
+
+/**
+ * A snapshot of a {@link SmallRyeConfig}, taken with {@link SmallRyeConfig#getSnapshot()}, to build a config with the
+ * same configuration with {@link SmallRyeConfigBuilder#fromSnapshot(ConfigSnapshot)}.
+ * <p>
+ *
+ * The snapshot keeps the resolved sources (including the sources provided by factories and the profile sources), the
+ * initialized interceptors in the order of the interceptor chain, the converters, the profiles and the mapping roots.
+ * A config built from the snapshot does not discover, load or initialize any of these again, and only maps the
+ * mappings with the sources of the snapshot.
+ * <p>
+ *
+ * The sources and interceptors are shared with the config of the snapshot, except for the default values, which are
+ * copied. A source that changes its values, changes the values of every config that uses the source. Interceptors are
+ * not initialized again: an interceptor created by a {@link ConfigSourceInterceptorFactory} keeps any state from the
+ * {@link ConfigSourceInterceptorContext} of the config of the snapshot, and shares that state with every config built
+ * from the snapshot.
+ */
+@Experimental("Snapshot of the config to build it again")
+public final class ConfigSnapshot {
+    private final List<String> profiles;
+    private final List<ConfigSourceInterceptorWithPriority> interceptors;
+    private final Map<Type, Converter<?>> converters;
+    private final ConfigValidator validator;
+    private final ConfigMappingProvider.Builder mappingsBuilder;
+
+    ConfigSnapshot(
+            final List<String> profiles,
+            final List<ConfigSourceInterceptorWithPriority> interceptors,
+            final Map<Type, Converter<?>> converters,
+            final ConfigValidator validator,
+            final ConfigMappingProvider.Builder mappingsBuilder) {
+        this.profiles = profiles;
+        this.interceptors = interceptors;
+        this.converters = Collections.unmodifiableMap(new HashMap<>(converters));
+        this.validator = validator;
+        this.mappingsBuilder = mappingsBuilder;
+    }
+
+    /**
+     * @return the active profiles
+     */
+    public List<String> getProfiles() {
+        return profiles;
+    }
+
+    /**
+     * @return the sources, in the same order of {@link SmallRyeConfig#getConfigSources()}
+     */
+    public List<ConfigSource> getConfigSources() {
+        final List<ConfigSource> sources = new ArrayList<>();
+        for (ConfigSourceInterceptorWithPriority interceptor : interceptors) {
+            if (interceptor.getInterceptor() instanceof SmallRyeConfigSourceInterceptor) {
+                sources.add(((SmallRyeConfigSourceInterceptor) interceptor.getInterceptor()).getSource());
+            }
+        }
+        Collections.reverse(sources);
+        return Collections.unmodifiableList(sources);
+    }
+
+    List<ConfigSourceInterceptorWithPriority> getInterceptors() {
+        return interceptors;
+    }
+
+    Map<Type, Converter<?>> getConverters() {
+        return converters;
+    }
+
+    ConfigValidator getValidator() {
+        return validator;
+    }
+
+    ConfigMappingProvider.Builder getMappingsBuilder() {
+        return mappingsBuilder;
+    }
+}
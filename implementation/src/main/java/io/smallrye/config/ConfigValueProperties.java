@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Loads properties as {@link ConfigValue}.
@@ -30,6 +31,9 @@ class ConfigValueProperties extends HashMap<String, ConfigValue> {
     }
 
     private void load0(LineReader lr) throws IOException {
+        // values are repeated often (booleans, ports, hosts), so equal values share the same String, also with the
+        // other sources loaded while a SmallRyeConfig is built
+        Map<String, String> values = ConfigValuesPool.getPool();
         char[] convtBuf = new char[1024];
         int limit;
         int keyLen;
@@ -77,6 +81,7 @@ class ConfigValueProperties extends HashMap<String, ConfigValue> {
             }
             String key = loadConvert(lr.lineBuf, 0, keyLen, convtBuf);
             String value = loadConvert(lr.lineBuf, valueStart, limit - valueStart, convtBuf);
+            value = ConfigValuesPool.pooled(values, value);
             put(key, ConfigValue.builder()
                     .withName(key)
                     .withValue(value)
@@ -0,0 +1,59 @@
+package io.smallrye.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shares equal property values between the sources loaded while a {@link SmallRyeConfig} is built, so values repeated
+ * across files (booleans, ports, hosts) keep a single {@link String} instance.
+ * <p>
+ *
+ * The pool is only set by {@link SmallRyeConfigBuilder#build()}, on the thread building the configuration, and dropped
+ * when the build completes. Sources loaded outside a build only share the values within the source.
+ */
+final class ConfigValuesPool {
+    private static final ThreadLocal<Map<String, String>> POOL = new ThreadLocal<>();
+
+    private ConfigValuesPool() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return the pool of the configuration being built, or a new pool
+     */
+    static Map<String, String> getPool() {
+        final Map<String, String> pool = POOL.get();
+        return pool != null ? pool : new HashMap<>();
+    }
+
+    static String pooled(final Map<String, String> pool, final String value) {
+        final String pooled = pool.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    /**
+     * Replaces the values of a {@link Map} with the pooled values.
+     *
+     * @param properties the properties to pool
+     * @return the same properties
+     */
+    static Map<String, String> pooled(final Map<String, String> properties) {
+        final Map<String, String> pool = getPool();
+        properties.replaceAll((name, value) -> value != null ? pooled(pool, value) : null);
+        return properties;
+    }
+
+    static <T> T doPooled(final Supplier<T> supplier) {
+        if (POOL.get() == null) {
+            POOL.set(new HashMap<>());
+            try {
+                return supplier.get();
+            } finally {
+                POOL.remove();
+            }
+        } else {
+            return supplier.get();
+        }
+    }
+}
@@ -23,6 +23,11 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
@@ -56,56 +61,52 @@ public final class Converters {
     private Converters() {
     }
 
+    private static final int BOXED_CACHE_SIZE = 1025;
+    private static final Integer[] INTEGER_CACHE = new Integer[BOXED_CACHE_SIZE];
+    private static final Long[] LONG_CACHE = new Long[BOXED_CACHE_SIZE];
+
     static final Converter<String> STRING_CONVERTER = BuiltInConverter.of(0, newEmptyValueConverter(value -> value));
 
-    static final Converter<Boolean> BOOLEAN_CONVERTER = BuiltInConverter.of(1, newTrimmingConverter(newEmptyValueConverter(
-            value -> Boolean.valueOf(
-                    "TRUE".equalsIgnoreCase(value)
-                            || "1".equalsIgnoreCase(value)
-                            || "YES".equalsIgnoreCase(value)
-                            || "Y".equalsIgnoreCase(value)
-                            || "ON".equalsIgnoreCase(value)
-                            || "JA".equalsIgnoreCase(value)
-                            || "J".equalsIgnoreCase(value)
-                            || "SI".equalsIgnoreCase(value)
-                            || "SIM".equalsIgnoreCase(value)
-                            || "OUI".equalsIgnoreCase(value)))));
+    static final Converter<Boolean> BOOLEAN_CONVERTER = BuiltInConverter.of(1, newTrimmingEmptyValueConverter(
+            (value, start, end) -> parseBoolean(value, start, end) ? Boolean.TRUE : Boolean.FALSE));
 
     static final Converter<Double> DOUBLE_CONVERTER = BuiltInConverter.of(2,
-            newTrimmingConverter(newEmptyValueConverter(value -> {
+            newTrimmingEmptyValueConverter((value, start, end) -> {
+                final String string = regionToString(value, start, end);
                 try {
-                    return Double.valueOf(value);
+                    return Double.valueOf(string);
                 } catch (NumberFormatException nfe) {
-                    throw ConfigMessages.msg.doubleExpected(value);
+                    throw ConfigMessages.msg.doubleExpected(string);
                 }
-            })));
+            }));
 
     static final Converter<Float> FLOAT_CONVERTER = BuiltInConverter.of(3,
-            newTrimmingConverter(newEmptyValueConverter(value -> {
+            newTrimmingEmptyValueConverter((value, start, end) -> {
+                final String string = regionToString(value, start, end);
                 try {
-                    return Float.valueOf(value);
+                    return Float.valueOf(string);
                 } catch (NumberFormatException nfe) {
-                    throw ConfigMessages.msg.floatExpected(value);
+                    throw ConfigMessages.msg.floatExpected(string);
                 }
-            })));
+            }));
 
     static final Converter<Long> LONG_CONVERTER = BuiltInConverter.of(4,
-            newTrimmingConverter(newEmptyValueConverter(value -> {
+            newTrimmingEmptyValueConverter((value, start, end) -> {
                 try {
-                    return Long.valueOf(value);
+                    return cachedLong(parseLong(value, start, end, Long.MIN_VALUE, Long.MAX_VALUE));
                 } catch (NumberFormatException nfe) {
-                    throw ConfigMessages.msg.longExpected(value);
+                    throw ConfigMessages.msg.longExpected(regionToString(value, start, end));
                 }
-            })));
+            }));
 
     static final Converter<Integer> INTEGER_CONVERTER = BuiltInConverter.of(5,
-            newTrimmingConverter(newEmptyValueConverter(value -> {
+            newTrimmingEmptyValueConverter((value, start, end) -> {
                 try {
-                    return Integer.valueOf(value);
+                    return cachedInteger((int) parseLong(value, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE));
                 } catch (NumberFormatException nfe) {
-                    throw ConfigMessages.msg.integerExpected(value);
+                    throw ConfigMessages.msg.integerExpected(regionToString(value, start, end));
                 }
-            })));
+            }));
 
     static final Converter<Class<?>> CLASS_CONVERTER = BuiltInConverter.of(6,
             newTrimmingConverter(newEmptyValueConverter(value -> {
@@ -134,27 +135,50 @@ public final class Converters {
                 }
             })));
 
-    static final Converter<Character> CHARACTER_CONVERTER = BuiltInConverter.of(11, newEmptyValueConverter(value -> {
-        if (value.length() == 1) {
-            return value.charAt(0);
-        }
-        throw ConfigMessages.msg.failedCharacterConversion(value);
-    }));
+    static final Converter<Character> CHARACTER_CONVERTER = BuiltInConverter.of(11,
+            (CharSequenceConverter<Character>) (value, start, end) -> {
+                if (start == end) {
+                    return null;
+                }
+                if (end - start == 1) {
+                    return value.charAt(start);
+                }
+                throw ConfigMessages.msg.failedCharacterConversion(regionToString(value, start, end));
+            });
 
     static final Converter<Short> SHORT_CONVERTER = BuiltInConverter.of(12,
-            newTrimmingConverter(newEmptyValueConverter(Short::valueOf)));
+            newTrimmingEmptyValueConverter((value, start, end) -> {
+                try {
+                    return Short.valueOf((short) parseLong(value, start, end, Short.MIN_VALUE, Short.MAX_VALUE));
+                } catch (NumberFormatException nfe) {
+                    // let the JDK report the failure
+                    return Short.valueOf(regionToString(value, start, end));
+                }
+            }));
 
     static final Converter<Byte> BYTE_CONVERTER = BuiltInConverter.of(13,
-            newTrimmingConverter(newEmptyValueConverter(Byte::valueOf)));
+            newTrimmingEmptyValueConverter((value, start, end) -> {
+                try {
+                    return Byte.valueOf((byte) parseLong(value, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE));
+                } catch (NumberFormatException nfe) {
+                    // let the JDK report the failure
+                    return Byte.valueOf(regionToString(value, start, end));
+                }
+            }));
 
     static final Converter<UUID> UUID_CONVERTER = BuiltInConverter.of(14,
-            newTrimmingConverter(newEmptyValueConverter((s) -> {
+            newTrimmingEmptyValueConverter((value, start, end) -> {
+                final UUID uuid = parseCanonicalUUID(value, start, end);
+                if (uuid != null) {
+                    return uuid;
+                }
+                final String string = regionToString(value, start, end);
                 try {
-                    return UUID.fromString(s);
+                    return UUID.fromString(string);
                 } catch (IllegalArgumentException e) {
-                    throw ConfigMessages.msg.malformedUUID(e, s);
+                    throw ConfigMessages.msg.malformedUUID(e, string);
                 }
-            })));
+            }));
 
     static final Converter<Currency> CURRENCY_CONVERTER = BuiltInConverter.of(15,
             newTrimmingConverter(newEmptyValueConverter((s) -> Currency.getInstance(s))));
@@ -173,6 +197,48 @@ public final class Converters {
     static final Converter<Pattern> PATTERN_CONVERTER = BuiltInConverter.of(17,
             newTrimmingConverter(newEmptyValueConverter(Pattern::compile)));
 
+    static final Converter<Duration> DURATION_CONVERTER = BuiltInConverter.of(18,
+            newTrimmingEmptyValueConverter(newCachingConverter(Converters::parseDuration)));
+
+    static final Converter<Period> PERIOD_CONVERTER = BuiltInConverter.of(19,
+            newTrimmingEmptyValueConverter(newCachingConverter((value, start, end) -> {
+                try {
+                    return Period.parse(value.subSequence(start, end));
+                } catch (DateTimeParseException e) {
+                    throw ConfigMessages.msg.temporalExpected(e, Period.class.getSimpleName(),
+                            regionToString(value, start, end));
+                }
+            })));
+
+    static final Converter<DataSize> DATA_SIZE_CONVERTER = BuiltInConverter.of(20,
+            newTrimmingEmptyValueConverter(newCachingConverter((value, start, end) -> {
+                final DataSize dataSize = DataSize.parse(value, start, end);
+                if (dataSize == null) {
+                    throw ConfigMessages.msg.dataSizeExpected(regionToString(value, start, end));
+                }
+                return dataSize;
+            })));
+
+    static final Converter<Instant> INSTANT_CONVERTER = BuiltInConverter.of(21,
+            newTrimmingEmptyValueConverter(newCachingConverter((value, start, end) -> {
+                try {
+                    return Instant.parse(value.subSequence(start, end));
+                } catch (DateTimeParseException e) {
+                    throw ConfigMessages.msg.temporalExpected(e, Instant.class.getSimpleName(),
+                            regionToString(value, start, end));
+                }
+            })));
+
+    static final Converter<LocalTime> LOCAL_TIME_CONVERTER = BuiltInConverter.of(22,
+            newTrimmingEmptyValueConverter(newCachingConverter((value, start, end) -> {
+                try {
+                    return LocalTime.parse(value.subSequence(start, end));
+                } catch (DateTimeParseException e) {
+                    throw ConfigMessages.msg.temporalExpected(e, LocalTime.class.getSimpleName(),
+                            regionToString(value, start, end));
+                }
+            })));
+
     static final Map<Class<?>, Class<?>> PRIMITIVE_TYPES;
 
     static final Map<Type, Converter<?>> ALL_CONVERTERS = new HashMap<>();
@@ -211,6 +277,12 @@ public final class Converters {
 
         ALL_CONVERTERS.put(Pattern.class, PATTERN_CONVERTER);
 
+        ALL_CONVERTERS.put(Duration.class, DURATION_CONVERTER);
+        ALL_CONVERTERS.put(Period.class, PERIOD_CONVERTER);
+        ALL_CONVERTERS.put(DataSize.class, DATA_SIZE_CONVERTER);
+        ALL_CONVERTERS.put(Instant.class, INSTANT_CONVERTER);
+        ALL_CONVERTERS.put(LocalTime.class, LOCAL_TIME_CONVERTER);
+
         Map<Class<?>, Class<?>> primitiveTypes = new HashMap<>(9);
         primitiveTypes.put(byte.class, Byte.class);
         primitiveTypes.put(short.class, Short.class);
@@ -401,6 +473,31 @@ public final class Converters {
         return new TrimmingConverter<>(delegateConverter);
     }
 
+    /**
+     * Get a converter which trims the input region and handles empty values, before passing the region on to the
+     * delegate converter. This is the {@link CharSequenceConverter} equivalent of
+     * {@code newTrimmingConverter(newEmptyValueConverter(delegateConverter))}.
+     *
+     * @param delegateConverter the converter to delegate to (must not be {@code null})
+     * @param <T> the value type
+     * @return the converter
+     */
+    static <T> CharSequenceConverter<T> newTrimmingEmptyValueConverter(CharSequenceConverter<T> delegateConverter) {
+        return new TrimmingEmptyValueConverter<>(delegateConverter);
+    }
+
+    /**
+     * Get a converter which caches the results of the delegate converter for recently converted values. The delegate
+     * converter must return immutable values.
+     *
+     * @param delegateConverter the converter to delegate to (must not be {@code null})
+     * @param <T> the value type
+     * @return the converter
+     */
+    static <T> CharSequenceConverter<T> newCachingConverter(CharSequenceConverter<T> delegateConverter) {
+        return new CachingConverter<>(delegateConverter);
+    }
+
     /**
      * Get a wrapping converter which verifies that the configuration value is greater than, or optionally equal to,
      * the given minimum value.
@@ -617,6 +714,253 @@ public final class Converters {
         return patternValidatingConverter(delegate, Pattern.compile(pattern));
     }
 
+    /**
+     * Returns the {@link String} representation of a {@link CharSequence} region, reusing the original
+     * {@link String} if the region covers all of it.
+     */
+    static String regionToString(final CharSequence value, final int start, final int end) {
+        if (value instanceof String && start == 0 && end == value.length()) {
+            return (String) value;
+        }
+        return value.subSequence(start, end).toString();
+    }
+
+    /**
+     * Compares a {@link CharSequence} region with a {@link String}, ignoring case considerations, with the same rules
+     * as {@link String#equalsIgnoreCase(String)}.
+     */
+    static boolean regionEqualsIgnoreCase(final String string, final CharSequence value, final int start, final int end) {
+        final int length = string.length();
+        if (end - start != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c1 = string.charAt(i);
+            final char c2 = value.charAt(start + i);
+            if (c1 == c2) {
+                continue;
+            }
+            final char u1 = Character.toUpperCase(c1);
+            final char u2 = Character.toUpperCase(c2);
+            if (u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2)) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Parses a {@link CharSequence} region as a boolean. A region is {@code true} if it matches, ignoring case, one of
+     * {@code TRUE}, {@code 1}, {@code YES}, {@code Y}, {@code ON}, {@code JA}, {@code J}, {@code SI}, {@code SIM} or
+     * {@code OUI}. The length of the region selects the candidates, so each character is compared at most once.
+     */
+    static boolean parseBoolean(final CharSequence value, final int start, final int end) {
+        switch (end - start) {
+            case 1:
+                return regionEqualsIgnoreCase("1", value, start, end)
+                        || regionEqualsIgnoreCase("Y", value, start, end)
+                        || regionEqualsIgnoreCase("J", value, start, end);
+            case 2:
+                return regionEqualsIgnoreCase("ON", value, start, end)
+                        || regionEqualsIgnoreCase("JA", value, start, end)
+                        || regionEqualsIgnoreCase("SI", value, start, end);
+            case 3:
+                return regionEqualsIgnoreCase("YES", value, start, end)
+                        || regionEqualsIgnoreCase("SIM", value, start, end)
+                        || regionEqualsIgnoreCase("OUI", value, start, end);
+            case 4:
+                return regionEqualsIgnoreCase("TRUE", value, start, end);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Boxes an int, reusing a cached instance for the small positive values commonly found in configuration, like
+     * sizes, counts or pool limits. {@link Integer#valueOf(int)} only caches values up to 127 by default.
+     */
+    static Integer cachedInteger(final int value) {
+        if (value < 0 || value >= BOXED_CACHE_SIZE) {
+            return Integer.valueOf(value);
+        }
+        Integer cached = INTEGER_CACHE[value];
+        if (cached == null) {
+            // racy, but Integer is immutable, so at worst an instance is boxed more than once
+            cached = INTEGER_CACHE[value] = Integer.valueOf(value);
+        }
+        return cached;
+    }
+
+    /**
+     * Boxes a long, reusing a cached instance for small positive values.
+     *
+     * @see #cachedInteger(int)
+     */
+    static Long cachedLong(final long value) {
+        if (value < 0 || value >= BOXED_CACHE_SIZE) {
+            return Long.valueOf(value);
+        }
+        final int index = (int) value;
+        Long cached = LONG_CACHE[index];
+        if (cached == null) {
+            cached = LONG_CACHE[index] = Long.valueOf(value);
+        }
+        return cached;
+    }
+
+    /**
+     * Parses a {@link CharSequence} region as a signed decimal number, with the same rules as
+     * {@link Long#parseLong(String)}, and verifies that the result is within the given bounds.
+     *
+     * @throws NumberFormatException if the region is not a number or if it is out of bounds
+     */
+    static long parseLong(final CharSequence value, final int start, final int end, final long min, final long max) {
+        if (start == end) {
+            throw new NumberFormatException();
+        }
+        int i = start;
+        boolean negative = false;
+        final char first = value.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                throw new NumberFormatException();
+            }
+        }
+        if (end - i < 19) {
+            // too few digits to overflow a long, so only the bounds need to be verified at the end
+            long result = 0;
+            while (i < end) {
+                final int digit = Character.digit(value.charAt(i++), 10);
+                if (digit < 0) {
+                    throw new NumberFormatException();
+                }
+                result = result * 10 + digit;
+            }
+            result = negative ? -result : result;
+            if (result < min || result > max) {
+                throw new NumberFormatException();
+            }
+            return result;
+        }
+        // accumulate negatively to be able to represent the minimum value
+        final long limit = negative ? min : -max;
+        final long multiplyMin = limit / 10;
+        long result = 0;
+        while (i < end) {
+            final int digit = Character.digit(value.charAt(i++), 10);
+            if (digit < 0 || result < multiplyMin) {
+                throw new NumberFormatException();
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw new NumberFormatException();
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses a {@link CharSequence} region as a {@link Duration}. Besides the ISO-8601 representation supported by
+     * {@link Duration#parse(CharSequence)}, the region may be an integer followed by one of the units {@code ms},
+     * {@code s}, {@code m}, {@code h} or {@code d}. An integer without a unit is in seconds.
+     */
+    static Duration parseDuration(final CharSequence value, final int start, final int end) {
+        int unitStart = start;
+        if (value.charAt(unitStart) == '-' || value.charAt(unitStart) == '+') {
+            unitStart++;
+        }
+        final int digitsStart = unitStart;
+        while (unitStart < end && value.charAt(unitStart) >= '0' && value.charAt(unitStart) <= '9') {
+            unitStart++;
+        }
+        if (unitStart > digitsStart && unitStart - digitsStart < 19) {
+            final long amount = parseLong(value, start, unitStart, Long.MIN_VALUE, Long.MAX_VALUE);
+            try {
+                switch (end - unitStart) {
+                    case 0:
+                        return Duration.ofSeconds(amount);
+                    case 1:
+                        switch (Character.toLowerCase(value.charAt(unitStart))) {
+                            case 's':
+                                return Duration.ofSeconds(amount);
+                            case 'm':
+                                return Duration.ofMinutes(amount);
+                            case 'h':
+                                return Duration.ofHours(amount);
+                            case 'd':
+                                return Duration.ofDays(amount);
+                        }
+                        break;
+                    case 2:
+                        if (regionEqualsIgnoreCase("ms", value, unitStart, end)) {
+                            return Duration.ofMillis(amount);
+                        }
+                        break;
+                }
+            } catch (ArithmeticException e) {
+                throw ConfigMessages.msg.durationExpected(e, regionToString(value, start, end));
+            }
+        }
+        try {
+            return Duration.parse(value.subSequence(start, end));
+        } catch (DateTimeParseException e) {
+            throw ConfigMessages.msg.durationExpected(e, regionToString(value, start, end));
+        }
+    }
+
+    /**
+     * Parses a {@link CharSequence} region in the canonical {@link UUID} representation, with 36 characters and all
+     * hexadecimal groups present.
+     *
+     * @return the UUID, or {@code null} if the region is not in the canonical representation
+     */
+    static UUID parseCanonicalUUID(final CharSequence value, final int start, final int end) {
+        if (end - start != 36) {
+            return null;
+        }
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int i = 0; i < 36; i++) {
+            final char c = value.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return null;
+                }
+                continue;
+            }
+            final int digit = Character.digit(c, 16);
+            if (digit < 0) {
+                return null;
+            }
+            if (i < 18) {
+                mostSignificantBits = mostSignificantBits << 4 | digit;
+            } else {
+                leastSignificantBits = leastSignificantBits << 4 | digit;
+            }
+        }
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Counts the number of non-empty items in a comma-separated value without escapes.
+     */
+    static int countItems(final String value) {
+        int items = 0;
+        boolean inItem = false;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == ',') {
+                inItem = false;
+            } else if (!inItem) {
+                inItem = true;
+                items++;
+            }
+        }
+        return items;
+    }
+
     static final class PatternCheckConverter<T> implements Converter<T>, Serializable {
         private static final long serialVersionUID = 358813973126582008L;
 
@@ -718,6 +1062,27 @@ public final class Converters {
                 // empty collection
                 return null;
             }
+            if (getDelegate() instanceof CharSequenceConverter && str.indexOf('\\') == -1) {
+                // no escapes, so items can be converted directly from the original value
+                final CharSequenceConverter<? extends T> delegate = (CharSequenceConverter<? extends T>) getDelegate();
+                final C collection = collectionFactory.apply(countItems(str));
+                final int length = str.length();
+                int start = 0;
+                while (start < length) {
+                    int end = str.indexOf(',', start);
+                    if (end == -1) {
+                        end = length;
+                    }
+                    if (end > start) {
+                        final T item = delegate.convert(str, start, end);
+                        if (item != null) {
+                            collection.add(item);
+                        }
+                    }
+                    start = end + 1;
+                }
+                return collection.isEmpty() ? null : collection;
+            }
             final String[] itemStrings = StringUtil.split(str);
             final C collection = collectionFactory.apply(itemStrings.length);
             for (String itemString : itemStrings) {
@@ -751,6 +1116,29 @@ public final class Converters {
                 // empty array
                 return null;
             }
+            if (getDelegate() instanceof CharSequenceConverter && str.indexOf('\\') == -1) {
+                // no escapes, so items can be converted directly from the original value
+                final CharSequenceConverter<? extends T> delegate = (CharSequenceConverter<? extends T>) getDelegate();
+                final int items = countItems(str);
+                final A array = arrayType.cast(Array.newInstance(arrayType.getComponentType(), items));
+                final int length = str.length();
+                int size = 0;
+                int start = 0;
+                while (start < length) {
+                    int end = str.indexOf(',', start);
+                    if (end == -1) {
+                        end = length;
+                    }
+                    if (end > start) {
+                        final T item = delegate.convert(str, start, end);
+                        if (item != null) {
+                            Array.set(array, size++, item);
+                        }
+                    }
+                    start = end + 1;
+                }
+                return size == 0 ? null : size < items ? copyArray(array, arrayType, size) : array;
+            }
             final String[] itemStrings = StringUtil.split(str);
             final A array = arrayType.cast(Array.newInstance(arrayType.getComponentType(), itemStrings.length));
             int size = 0;
@@ -877,7 +1265,7 @@ public final class Converters {
         }
     }
 
-    static final class BuiltInConverter<T> implements Converter<T>, Serializable {
+    static class BuiltInConverter<T> implements Converter<T>, Serializable {
         private final int id;
         private final Converter<T> function;
 
@@ -885,6 +1273,10 @@ public final class Converters {
             return new BuiltInConverter<>(id, function);
         }
 
+        static <T> BuiltInConverter<T> of(int id, CharSequenceConverter<T> function) {
+            return new BuiltInCharSequenceConverter<>(id, function);
+        }
+
         private BuiltInConverter(final int id, final Converter<T> function) {
             this.id = id;
             this.function = function;
@@ -894,11 +1286,30 @@ public final class Converters {
             return function.convert(value);
         }
 
+        Converter<T> getFunction() {
+            return function;
+        }
+
         Object writeReplace() {
             return new Ser(id);
         }
     }
 
+    static final class BuiltInCharSequenceConverter<T> extends BuiltInConverter<T> implements CharSequenceConverter<T> {
+        private BuiltInCharSequenceConverter(final int id, final CharSequenceConverter<T> function) {
+            super(id, function);
+        }
+
+        @Override
+        public T convert(final String value) {
+            return getFunction().convert(value);
+        }
+
+        public T convert(final CharSequence value, final int start, final int end) {
+            return ((CharSequenceConverter<T>) getFunction()).convert(value, start, end);
+        }
+    }
+
     static final class Ser implements Serializable {
         private static final long serialVersionUID = 5646753664957303950L;
 
@@ -946,6 +1357,16 @@ public final class Converters {
                     return BITSET_CONVERTER;
                 case 17:
                     return PATTERN_CONVERTER;
+                case 18:
+                    return DURATION_CONVERTER;
+                case 19:
+                    return PERIOD_CONVERTER;
+                case 20:
+                    return DATA_SIZE_CONVERTER;
+                case 21:
+                    return INSTANT_CONVERTER;
+                case 22:
+                    return LOCAL_TIME_CONVERTER;
                 default:
                     throw ConfigMessages.msg.unknownConverterId(id);
             }
@@ -998,6 +1419,91 @@ public final class Converters {
         }
     }
 
+    static class TrimmingEmptyValueConverter<T> implements CharSequenceConverter<T>, Serializable {
+        private static final long serialVersionUID = -6493203581209384525L;
+
+        private final CharSequenceConverter<T> delegate;
+
+        TrimmingEmptyValueConverter(final CharSequenceConverter<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        public T convert(final CharSequence value, int start, int end) {
+            if (value == null) {
+                throw ConfigMessages.msg.converterNullValue();
+            }
+            // same rules as String#trim
+            while (start < end && value.charAt(start) <= ' ') {
+                start++;
+            }
+            while (start < end && value.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (start == end) {
+                return null;
+            }
+            return delegate.convert(value, start, end);
+        }
+    }
+
+    /**
+     * A small cache of converted values, indexed by the hash of the value being converted. Each slot holds a single
+     * entry, which is replaced when a different value with the same index is converted. Entries are immutable, so the
+     * slots can be read and replaced without synchronization.
+     */
+    static class CachingConverter<T> implements CharSequenceConverter<T> {
+        private static final int SIZE = 64;
+
+        private final CharSequenceConverter<T> delegate;
+        @SuppressWarnings("unchecked")
+        private final CacheEntry<T>[] entries = new CacheEntry[SIZE];
+
+        CachingConverter(final CharSequenceConverter<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        public T convert(final CharSequence value, final int start, final int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + value.charAt(i);
+            }
+            final int index = (hash ^ hash >>> 16) & (SIZE - 1);
+            final CacheEntry<T> entry = entries[index];
+            if (entry != null && entry.hash == hash && entry.matches(value, start, end)) {
+                return entry.converted;
+            }
+            final T converted = delegate.convert(value, start, end);
+            if (converted != null) {
+                entries[index] = new CacheEntry<>(regionToString(value, start, end), hash, converted);
+            }
+            return converted;
+        }
+
+        static final class CacheEntry<T> {
+            private final String value;
+            private final int hash;
+            private final T converted;
+
+            CacheEntry(final String value, final int hash, final T converted) {
+                this.value = value;
+                this.hash = hash;
+                this.converted = converted;
+            }
+
+            boolean matches(final CharSequence other, final int start, final int end) {
+                if (end - start != value.length()) {
+                    return false;
+                }
+                for (int i = 0; i < value.length(); i++) {
+                    if (value.charAt(i) != other.charAt(start + i)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+    }
+
     /**
      * A converter for a Map knowing that the expected format is {@code <key1>=<value1>;<key2>=<value2>...}.
      * <p>
@@ -0,0 +1,163 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * An amount of data, like a buffer or a file size, in bytes.
+ * <p>
+ *
+ * The text representation is a non-negative integer, followed by an optional unit. The supported units are
+ * {@code B}, {@code K}, {@code M}, {@code G} and {@code T}, optionally followed by {@code B} or {@code iB}, and are
+ * case-insensitive. All the units are binary, so {@code 1KB}, {@code 1K} and {@code 1KiB} are 1024 bytes. A value
+ * without a unit is in bytes.
+ */
+@Experimental("Data size type to represent buffer and file sizes")
+public final class DataSize implements Comparable<DataSize>, Serializable {
+    private static final long serialVersionUID = 6432410283219406215L;
+
+    private static final long KILO = 1024;
+    private static final long MEGA = KILO * 1024;
+    private static final long GIGA = MEGA * 1024;
+    private static final long TERA = GIGA * 1024;
+
+    private final long bytes;
+
+    private DataSize(final long bytes) {
+        this.bytes = bytes;
+    }
+
+    public static DataSize ofBytes(final long bytes) {
+        if (bytes < 0) {
+            throw ConfigMessages.msg.dataSizeExpected(Long.toString(bytes));
+        }
+        return new DataSize(bytes);
+    }
+
+    public static DataSize ofKilobytes(final long kilobytes) {
+        return ofBytes(Math.multiplyExact(kilobytes, KILO));
+    }
+
+    public static DataSize ofMegabytes(final long megabytes) {
+        return ofBytes(Math.multiplyExact(megabytes, MEGA));
+    }
+
+    public static DataSize ofGigabytes(final long gigabytes) {
+        return ofBytes(Math.multiplyExact(gigabytes, GIGA));
+    }
+
+    /**
+     * Obtains a {@link DataSize} from a text, like {@code 512}, {@code 64KB} or {@code 1GiB}.
+     *
+     * @param text the text to parse (must not be {@code null})
+     * @return the parsed {@link DataSize}
+     * @throws IllegalArgumentException if the text cannot be parsed to a {@link DataSize}
+     */
+    public static DataSize parse(final CharSequence text) {
+        final DataSize dataSize = parse(text, 0, text.length());
+        if (dataSize == null) {
+            throw ConfigMessages.msg.dataSizeExpected(text.toString());
+        }
+        return dataSize;
+    }
+
+    /**
+     * Parses the region of a {@link CharSequence} delimited by {@code start} (inclusive) and {@code end} (exclusive).
+     *
+     * @return the parsed {@link DataSize} or {@code null} if the region is not a valid data size
+     */
+    static DataSize parse(final CharSequence text, final int start, final int end) {
+        int unitStart = start;
+        while (unitStart < end && text.charAt(unitStart) >= '0' && text.charAt(unitStart) <= '9') {
+            unitStart++;
+        }
+        if (unitStart == start || unitStart - start > 18) {
+            return null;
+        }
+        final long amount = Converters.parseLong(text, start, unitStart, 0, Long.MAX_VALUE);
+        final long multiplier = multiplier(text, unitStart, end);
+        if (multiplier == -1 || amount > Long.MAX_VALUE / multiplier) {
+            return null;
+        }
+        return new DataSize(amount * multiplier);
+    }
+
+    private static long multiplier(final CharSequence text, final int start, final int end) {
+        if (start == end) {
+            return 1;
+        }
+        final long multiplier;
+        switch (Character.toUpperCase(text.charAt(start))) {
+            case 'B':
+                return end - start == 1 ? 1 : -1;
+            case 'K':
+                multiplier = KILO;
+                break;
+            case 'M':
+                multiplier = MEGA;
+                break;
+            case 'G':
+                multiplier = GIGA;
+                break;
+            case 'T':
+                multiplier = TERA;
+                break;
+            default:
+                return -1;
+        }
+        switch (end - start) {
+            case 1:
+                return multiplier;
+            case 2:
+                return Character.toUpperCase(text.charAt(start + 1)) == 'B' ? multiplier : -1;
+            case 3:
+                return Character.toUpperCase(text.charAt(start + 1)) == 'I'
+                        && Character.toUpperCase(text.charAt(start + 2)) == 'B' ? multiplier : -1;
+            default:
+                return -1;
+        }
+    }
+
+    public long toBytes() {
+        return bytes;
+    }
+
+    public long toKilobytes() {
+        return bytes / KILO;
+    }
+
+    public long toMegabytes() {
+        return bytes / MEGA;
+    }
+
+    public long toGigabytes() {
+        return bytes / GIGA;
+    }
+
+    @Override
+    public int compareTo(final DataSize o) {
+        return Long.compare(bytes, o.bytes);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return bytes == ((DataSize) o).bytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return bytes + "B";
+    }
+}
@@ -1,17 +1,146 @@
 package io.smallrye.config;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 public class DefaultValuesConfigSource extends KeyMapBackedConfigSource {
     private static final long serialVersionUID = -6386021034957868328L;
 
+    private transient volatile DefaultValues defaultValues;
+
     public DefaultValuesConfigSource(final KeyMap<String> properties) {
         super("DefaultValuesConfigSource", Integer.MIN_VALUE, properties);
     }
 
-    void registerDefaults(final KeyMap<String> properties) {
+    @Override
+    public String getValue(final String propertyName) {
+        DefaultValues defaultValues = this.defaultValues;
+        if (defaultValues == null) {
+            synchronized (this) {
+                defaultValues = this.defaultValues;
+                if (defaultValues == null) {
+                    this.defaultValues = defaultValues = DefaultValues.of(getKeyMapProperties());
+                }
+            }
+        }
+        return defaultValues.get(propertyName);
+    }
+
+    synchronized void registerDefaults(final KeyMap<String> properties) {
         for (Map.Entry<String, KeyMap<String>> entry : properties.entrySet()) {
             getKeyMapProperties().put(entry.getKey(), entry.getValue());
         }
+        this.defaultValues = null;
+    }
+
+    /**
+     * @return a copy of this source, with a copy of the default values
+     */
+    synchronized DefaultValuesConfigSource copy() {
+        return new DefaultValuesConfigSource(getKeyMapProperties().map(Function.identity()));
+    }
+
+    /**
+     * The default values, compiled for lookup. Default names without wildcards are kept in a {@link HashMap}, so most
+     * lookups are a single hash lookup. Plain names that are not found are looked up in an {@link ImmutableKeyMap} that
+     * only keeps the wildcard and indexed defaults, and the paths leading to them. Names with quotes or escapes are
+     * looked up in the original defaults. The result is always the same of {@link KeyMap#findRootValue(String)} in the
+     * original defaults.
+     */
+    static final class DefaultValues {
+        private final KeyMap<String> defaults;
+        private final Map<String, String> names;
+        private final ImmutableKeyMap<String> patterns;
+
+        private DefaultValues(final KeyMap<String> defaults, final Map<String, String> names,
+                final ImmutableKeyMap<String> patterns) {
+            this.defaults = defaults;
+            this.names = names;
+            this.patterns = patterns;
+        }
+
+        static DefaultValues of(final KeyMap<String> defaults) {
+            final Map<String, String> names = new HashMap<>();
+            collect(defaults, new StringBuilder(), true, names);
+            final KeyMap<String> patterns = patterns(defaults);
+            return new DefaultValues(defaults, names, patterns != null ? ImmutableKeyMap.copyOf(patterns) : null);
+        }
+
+        String get(final String name) {
+            final String value = names.get(name);
+            if (value != null) {
+                return value;
+            }
+            if (!isPlainName(name)) {
+                return defaults.findRootValue(name);
+            }
+            return patterns != null ? patterns.findRootValue(name) : null;
+        }
+
+        /**
+         * Collects the names of the defaults without wildcards.
+         */
+        private static void collect(
+                final KeyMap<String> defaults,
+                final StringBuilder name,
+                final boolean root,
+                final Map<String, String> names) {
+
+            if (defaults.hasRootValue() && defaults.getRootValue() != null) {
+                names.put(name.toString(), defaults.getRootValue());
+            }
+            final int length = name.length();
+            for (Map.Entry<String, KeyMap<String>> entry : defaults.entrySet()) {
+                final String segment = entry.getKey();
+                if (segment.equals("[") || segment.isEmpty() || !isPlainName(segment) || segment.indexOf('.') != -1) {
+                    // indexed, like foo[0], empty segments, or only found by names with quotes
+                    continue;
+                }
+                if (!root) {
+                    name.append('.');
+                }
+                name.append(segment);
+                collect(entry.getValue(), name, false, names);
+                name.setLength(length);
+            }
+        }
+
+        /**
+         * Copies the defaults that a plain name not collected by
+         * {@link #collect(KeyMap, StringBuilder, boolean, Map)} may match: the wildcard, indexed and empty segments
+         * with everything below them, and the plain segments leading to them. A plain segment next to a wildcard is
+         * kept without values, because it still takes precedence over the wildcard.
+         *
+         * @return the copy, or {@code null} if no plain name can match outside the collected names
+         */
+        private static KeyMap<String> patterns(final KeyMap<String> defaults) {
+            final KeyMap<String> patterns = new KeyMap<>();
+            boolean matches = false;
+            if (defaults.getAny() != null) {
+                patterns.putAny(defaults.getAny());
+                matches = true;
+            }
+            for (Map.Entry<String, KeyMap<String>> entry : defaults.entrySet()) {
+                final String segment = entry.getKey();
+                if (segment.equals("[") || segment.isEmpty()) {
+                    patterns.put(segment, entry.getValue());
+                    matches = true;
+                } else if (isPlainName(segment) && segment.indexOf('.') == -1) {
+                    final KeyMap<String> next = patterns(entry.getValue());
+                    if (next != null) {
+                        patterns.put(segment, next);
+                        matches = true;
+                    } else if (defaults.getAny() != null) {
+                        patterns.put(segment, new KeyMap<>(0));
+                    }
+                }
+            }
+            return matches ? patterns : null;
+        }
+
+        private static boolean isPlainName(final String name) {
+            return name.indexOf('"') == -1 && name.indexOf('\\') == -1;
+        }
     }
 }
@@ -0,0 +1,222 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * An immutable and compact copy of a {@link KeyMap}, with the same lookup rules.
+ * <p>
+ *
+ * Each level keeps its segments in a sorted array of hashes, with the segment names and the next levels in parallel
+ * arrays, instead of a {@link java.util.HashMap} with a node per entry. Lookups compare the segments of the
+ * {@link NameIterator} with the segment names, so finding a value does not allocate a {@link String} per segment.
+ *
+ * @param <V> the value type
+ */
+final class ImmutableKeyMap<V> implements Serializable {
+    private static final long serialVersionUID = -3781379612543285164L;
+
+    private static final int[] NO_HASHES = new int[0];
+    private static final String[] NO_KEYS = new String[0];
+
+    private int[] hashes = NO_HASHES;
+    private String[] keys = NO_KEYS;
+    private ImmutableKeyMap<V>[] children;
+    private ImmutableKeyMap<V> any;
+    private boolean hasRootValue;
+    private V rootValue;
+
+    private ImmutableKeyMap() {
+    }
+
+    /**
+     * Creates an immutable copy of a {@link KeyMap}. Changes to the original {@link KeyMap} are not reflected in the
+     * copy.
+     *
+     * @param keyMap the {@link KeyMap} to copy
+     * @param <V> the value type
+     * @return the immutable copy
+     */
+    static <V> ImmutableKeyMap<V> copyOf(final KeyMap<V> keyMap) {
+        return copyOf(keyMap, new IdentityHashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> ImmutableKeyMap<V> copyOf(
+            final KeyMap<V> keyMap,
+            final IdentityHashMap<KeyMap<V>, ImmutableKeyMap<V>> copies) {
+
+        ImmutableKeyMap<V> copy = copies.get(keyMap);
+        if (copy != null) {
+            return copy;
+        }
+        copy = new ImmutableKeyMap<>();
+        copies.put(keyMap, copy);
+
+        final int size = keyMap.size();
+        final long[] sorted = new long[size];
+        final String[] keys = keyMap.keySet().toArray(NO_KEYS);
+        for (int i = 0; i < size; i++) {
+            // hash in the high bits and the original index in the low bits, to sort the keys by hash
+            sorted[i] = (long) keys[i].hashCode() << 32 | i;
+        }
+        Arrays.sort(sorted);
+
+        copy.hashes = new int[size];
+        copy.keys = new String[size];
+        copy.children = new ImmutableKeyMap[size];
+        for (int i = 0; i < size; i++) {
+            final String key = keys[(int) sorted[i]];
+            copy.hashes[i] = (int) (sorted[i] >> 32);
+            copy.keys[i] = key;
+            copy.children[i] = copyOf(keyMap.get(key), copies);
+        }
+        if (keyMap.getAny() != null) {
+            copy.any = copyOf(keyMap.getAny(), copies);
+        }
+        copy.hasRootValue = keyMap.hasRootValue();
+        copy.rootValue = keyMap.getRootValue();
+        return copy;
+    }
+
+    boolean hasRootValue() {
+        return hasRootValue;
+    }
+
+    V getRootValue() {
+        return rootValue;
+    }
+
+    ImmutableKeyMap<V> getAny() {
+        return any;
+    }
+
+    /**
+     * Get the next level for the segment in the region of a name, delimited by {@code offs} (inclusive) and
+     * {@code len}.
+     *
+     * @param name the name containing the segment
+     * @param offs the start of the segment in the name
+     * @param len the length of the segment
+     * @return the next level, or {@code null} if the segment is not found
+     */
+    ImmutableKeyMap<V> get(final String name, final int offs, final int len) {
+        int hash = 0;
+        for (int i = offs; i < offs + len; i++) {
+            hash = 31 * hash + name.charAt(i);
+        }
+        for (int index = firstIndexOf(hash); index >= 0 && index < hashes.length && hashes[index] == hash; index++) {
+            final String key = keys[index];
+            if (key.length() == len && key.regionMatches(0, name, offs, len)) {
+                return children[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the next level for the next segment of a {@link NameIterator}, without creating the segment
+     * {@link String}.
+     */
+    private ImmutableKeyMap<V> get(final NameIterator ni) {
+        final int hash = ni.getNextSegmentHash();
+        for (int index = firstIndexOf(hash); index >= 0 && index < hashes.length && hashes[index] == hash; index++) {
+            if (ni.nextSegmentEquals(keys[index])) {
+                return children[index];
+            }
+        }
+        return null;
+    }
+
+    private int firstIndexOf(final int hash) {
+        int index = Arrays.binarySearch(hashes, hash);
+        // multiple keys may have the same hash
+        while (index > 0 && hashes[index - 1] == hash) {
+            index--;
+        }
+        return index;
+    }
+
+    private ImmutableKeyMap<V> getOrDefault(final String name, final int offs, final int len) {
+        final ImmutableKeyMap<V> next = get(name, offs, len);
+        return next != null ? next : any;
+    }
+
+    ImmutableKeyMap<V> find(final String path) {
+        return find(new NameIterator(path));
+    }
+
+    /**
+     * Find the level of a name, following the same rules of {@link KeyMap#find(NameIterator)}.
+     *
+     * @param ni the name iterator, which is moved to the end of the name
+     * @return the level of the name, or {@code null} if the name is not found
+     */
+    ImmutableKeyMap<V> find(final NameIterator ni) {
+        ImmutableKeyMap<V> current = this;
+        while (ni.hasNext()) {
+            if (ni.isNextSegmentIndexed()) {
+                final int start = ni.getPosition() + 1;
+                final int end = ni.getNextEnd();
+                if (isPlainSegment(ni.getName(), start, end)) {
+                    current = current.findOrDefault(ni.getName(), start, end - start);
+                } else {
+                    final String segment = ni.getNextSegment();
+                    current = current.findOrDefault(segment, 0, segment.length());
+                }
+            } else {
+                final ImmutableKeyMap<V> next = current.get(ni);
+                current = next != null ? next : current.any;
+            }
+            ni.next();
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private ImmutableKeyMap<V> findOrDefault(final String name, final int offs, final int len) {
+        final int end = offs + len;
+        if (len > 0 && name.charAt(end - 1) == ']') {
+            final int begin = name.lastIndexOf('[', end - 1);
+            if (begin >= offs) {
+                ImmutableKeyMap<V> next = getOrDefault(name, offs, begin - offs);
+                if (next != null) {
+                    next = next.getOrDefault("[", 0, 1);
+                    if (next != null) {
+                        next = next.getOrDefault(name, begin + 1, end - begin - 2);
+                        if (next != null) {
+                            next = next.getOrDefault("]", 0, 1);
+                        }
+                    }
+                }
+                return next;
+            }
+        }
+        return getOrDefault(name, offs, len);
+    }
+
+    V findRootValue(final String path) {
+        return findRootValue(new NameIterator(path));
+    }
+
+    V findRootValue(final NameIterator ni) {
+        final ImmutableKeyMap<V> result = find(ni);
+        return result == null ? null : result.getRootValue();
+    }
+
+    /**
+     * A segment without quotes or escapes is the same as the region of the name between the delimiters.
+     */
+    private static boolean isPlainSegment(final String name, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = name.charAt(i);
+            if (c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -110,13 +110,22 @@ public final class KeyMap<V> extends HashMap<String, KeyMap<V>> {
     }
 
     public KeyMap<V> find(final NameIterator ni) {
+        return find(ni, new SegmentKey(ni));
+    }
+
+    private KeyMap<V> find(final NameIterator ni, final SegmentKey segmentKey) {
         if (!ni.hasNext()) {
             return this;
         }
-        String seg = ni.getNextSegment();
+        KeyMap<V> next;
+        if (ni.isNextSegmentIndexed()) {
+            String seg = ni.getNextSegment();
+            next = findOrDefault(seg);
+        } else {
+            next = getOrDefault(segmentKey.next(), any);
+        }
         ni.next();
-        KeyMap<V> next = findOrDefault(seg);
-        return next == null ? null : next.find(ni);
+        return next == null ? null : next.find(ni, segmentKey);
     }
 
     public KeyMap<V> find(final Iterator<String> iter) {
@@ -286,6 +295,35 @@ public final class KeyMap<V> extends HashMap<String, KeyMap<V>> {
         }
     }
 
+    /**
+     * A key to look up the next segment of a {@link NameIterator}, without creating the segment {@link String}. The
+     * key has the same hash code of the segment {@link String}, and is equal to a {@link String} with the same
+     * characters of the segment, so it can be used to probe the map keys.
+     */
+    private static final class SegmentKey {
+        private final NameIterator ni;
+        private int hash;
+
+        SegmentKey(final NameIterator ni) {
+            this.ni = ni;
+        }
+
+        SegmentKey next() {
+            this.hash = ni.getNextSegmentHash();
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof String && ni.nextSegmentEquals((String) obj);
+        }
+    }
+
     @SuppressWarnings("ResultOfMethodCallIgnored")
     public StringBuilder toString(StringBuilder b) {
         b.append("KeyMap(");
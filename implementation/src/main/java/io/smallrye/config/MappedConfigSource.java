@@ -0,0 +1,76 @@
+package io.smallrye.config;
+
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.config.common.AbstractConfigSource;
+
+/**
+ * A {@link ConfigValueConfigSource} of a configuration file written by {@link MappedConfigSourceWriter}.
+ * <p>
+ *
+ * The file is memory mapped, and lookups are served from the index in the file, without loading the properties into
+ * the heap. Only the value of the property requested is decoded. The pages of the file are shared with other processes
+ * mapping the same file.
+ * <p>
+ *
+ * The {@link ConfigValue} returned keep the name, ordinal and line number of the source where the property was
+ * originally found.
+ */
+@Experimental("ConfigSource of a memory mapped configuration file")
+public class MappedConfigSource extends AbstractConfigSource implements ConfigValueConfigSource {
+    private static final long serialVersionUID = 2807016003839046017L;
+
+    private static final String NAME_PREFIX = "MappedConfigSource[file=";
+
+    private final String file;
+    private final transient BinaryConfigValues values;
+
+    public MappedConfigSource(final Path file) throws IOException {
+        this(file, DEFAULT_ORDINAL);
+    }
+
+    public MappedConfigSource(final Path file, final int ordinal) throws IOException {
+        super(NAME_PREFIX + file + "]", ordinal);
+        this.file = file.toString();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            this.values = BinaryConfigValues.of(buffer, file.toString());
+        }
+    }
+
+    @Override
+    public ConfigValue getConfigValue(final String propertyName) {
+        return values.get(propertyName);
+    }
+
+    /**
+     * A view of the properties in the file. The entries are decoded when iterated.
+     */
+    @Override
+    public Map<String, ConfigValue> getConfigValueProperties() {
+        return values.asMap();
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return values.names();
+    }
+
+    Object readResolve() throws ObjectStreamException {
+        try {
+            return new MappedConfigSource(Paths.get(file), getOrdinal());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.smallrye.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Writes the configuration of a {@link SmallRyeConfig} to a file in the format of {@link MappedConfigSource}.
+ * <p>
+ *
+ * Each property name of the sources is written with the value of the source with the highest ordinal, and the name,
+ * ordinal and line number of that source. The values are looked up from the sources directly, without the
+ * interceptors, so names are written as they are found in the sources (for instance {@code %dev.server.port}), and the
+ * profiles, relocations and expressions are still applied when the property is looked up from the
+ * {@link MappedConfigSource}. Properties of sources that do not list their names in
+ * {@link ConfigSource#getPropertyNames()} are not written.
+ * <p>
+ *
+ * Secret keys are also written, in plain text. The file is created with the default file permissions, so it must be
+ * protected like the original sources.
+ * <p>
+ *
+ * The writer can run as a tool, with the configuration sources found in the classpath:
+ *
+ * <pre>
+ * java io.smallrye.config.MappedConfigSourceWriter &lt;file&gt;
+ * </pre>
+ */
+@Experimental("Write the configuration to a file for MappedConfigSource")
+public final class MappedConfigSourceWriter {
+    private MappedConfigSourceWriter() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: " + MappedConfigSourceWriter.class.getName() + " <file>");
+        }
+
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .addDiscoveredSources()
+                .addDefaultInterceptors()
+                .addDiscoveredInterceptors()
+                .build();
+        write(config, Paths.get(args[0]));
+    }
+
+    /**
+     * Writes the configuration to a file.
+     *
+     * @param config the configuration to write
+     * @param file the file to write
+     * @throws IOException if an error occurs while writing the file
+     */
+    public static void write(final SmallRyeConfig config, final Path file) throws IOException {
+        final List<ConfigSource> sources = new ArrayList<>();
+        final TreeSet<String> names = new TreeSet<>();
+        for (ConfigSource source : config.getConfigSources()) {
+            sources.add(source);
+            names.addAll(source.getPropertyNames());
+        }
+
+        final List<ConfigValue> configValues = new ArrayList<>();
+        for (String name : names) {
+            final ConfigValue configValue = getConfigValue(sources, name);
+            if (configValue != null) {
+                configValues.add(configValue);
+            }
+        }
+
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream output = Files.newOutputStream(file)) {
+            BinaryConfigValues.write(configValues, output);
+        }
+    }
+
+    /**
+     * Looks up a property name in the sources, without the interceptors, which may rename the value (for instance, the
+     * profile and the relocation interceptors).
+     *
+     * @param sources the sources, from the highest to the lowest ordinal
+     * @param name the property name
+     * @return the value of the source with the highest ordinal, with the looked up name, or {@code null}
+     */
+    private static ConfigValue getConfigValue(final List<ConfigSource> sources, final String name) {
+        for (ConfigSource source : sources) {
+            if (source instanceof ConfigValueConfigSource) {
+                final ConfigValue configValue = ((ConfigValueConfigSource) source).getConfigValue(name);
+                if (configValue != null && configValue.getValue() != null) {
+                    return configValue.from()
+                            .withName(name)
+                            .withConfigSourceName(source.getName())
+                            .withConfigSourceOrdinal(source.getOrdinal())
+                            .build();
+                }
+            } else {
+                final String value = source.getValue(name);
+                if (value != null) {
+                    return ConfigValue.builder()
+                            .withName(name)
+                            .withValue(value)
+                            .withConfigSourceName(source.getName())
+                            .withConfigSourceOrdinal(source.getOrdinal())
+                            .build();
+                }
+            }
+        }
+        return null;
+    }
+}
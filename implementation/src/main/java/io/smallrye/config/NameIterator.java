@@ -252,6 +252,51 @@ public final class NameIterator {
         }
     }
 
+    /**
+     * Get the hash code of the next segment, without creating the segment {@link String}. The hash code is the same
+     * as the {@link String#hashCode()} of {@link #getNextSegment()}.
+     *
+     * @return the hash code of the next segment
+     */
+    public int getNextSegmentHash() {
+        int hash = 0;
+        int cookie = initIteration();
+        for (;;) {
+            cookie = nextPos(cookie);
+            if (isSegmentDelimiter(cookie)) {
+                return hash;
+            }
+            hash = 31 * hash + charAt(cookie);
+        }
+    }
+
+    /**
+     * Check if the next segment is an indexed segment, like {@code foo[0]}, without creating the segment
+     * {@link String}.
+     *
+     * @return {@code true} if the next segment ends with {@code ]}
+     */
+    public boolean isNextSegmentIndexed() {
+        final int end = getNextEnd();
+        if (end == pos + 1) {
+            return false;
+        }
+        final char last = name.charAt(end - 1);
+        if (last != '"') {
+            return last == ']';
+        }
+        // quoted segment, check the last unquoted character
+        int lastChar = -1;
+        int cookie = initIteration();
+        for (;;) {
+            cookie = nextPos(cookie);
+            if (isSegmentDelimiter(cookie)) {
+                return lastChar == ']';
+            }
+            lastChar = charAt(cookie);
+        }
+    }
+
     public String getNextSegment() {
         final StringBuilder b = new StringBuilder();
         int cookie = initIteration();
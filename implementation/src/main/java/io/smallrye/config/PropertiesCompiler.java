@@ -0,0 +1,127 @@
+package io.smallrye.config;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Compiles properties files to a binary format, loaded by {@link PropertiesConfigSourceProvider} instead of parsing the
+ * properties file.
+ * <p>
+ *
+ * The compiled file is written next to the properties file, with the {@code .bin} extension appended to the file name,
+ * for instance {@code META-INF/microprofile-config.properties.bin}. When the compiled file is found, the
+ * {@link PropertiesConfigSource} looks up the properties in the index of the compiled file, without parsing the
+ * properties file or populating a {@link java.util.HashMap}. The compiled file keeps the length and a checksum of the
+ * properties file it was compiled from. If the properties file changes and is not compiled again, the compiled file
+ * is ignored with a warning, and the properties file is parsed.
+ * <p>
+ *
+ * The compiler can run as part of the build, for instance with the {@code exec-maven-plugin} in the
+ * {@code process-classes} phase:
+ *
+ * <pre>
+ * java io.smallrye.config.PropertiesCompiler target/classes [resource...]
+ * </pre>
+ *
+ * The resources are relative to the classes directory. If no resources are set,
+ * {@code META-INF/microprofile-config.properties} is compiled, if present.
+ */
+@Experimental("Compile properties files to a binary format")
+public final class PropertiesCompiler {
+    static final String COMPILED_EXTENSION = ".bin";
+
+    /**
+     * The compiled file starts with: int magic, long length of the properties file, long checksum of the properties
+     * file, followed by the {@link BinaryConfigValues}.
+     */
+    private static final int MAGIC = 0x53524350;
+    private static final int HEADER = 4 + 8 + 8;
+
+    private PropertiesCompiler() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException(
+                    "Usage: " + PropertiesCompiler.class.getName() + " <classes-directory> [resource...]");
+        }
+
+        final Path classesDirectory = Paths.get(args[0]);
+        final List<String> resources = args.length > 1 ? Arrays.asList(args).subList(1, args.length)
+                : Collections.singletonList("META-INF/microprofile-config.properties");
+        for (String resource : resources) {
+            final Path properties = classesDirectory.resolve(resource);
+            if (Files.exists(properties)) {
+                compile(properties);
+            }
+        }
+    }
+
+    /**
+     * Compiles a properties file, to a file with the same name and the {@code .bin} extension appended.
+     *
+     * @param properties the properties file
+     * @return the compiled file
+     * @throws IOException if an error occurs while reading the properties file or writing the compiled file
+     */
+    public static Path compile(final Path properties) throws IOException {
+        final byte[] source = Files.readAllBytes(properties);
+        final ConfigValueProperties configValueProperties = new ConfigValueProperties(null, 0);
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(source), StandardCharsets.UTF_8)) {
+            configValueProperties.load(reader);
+        }
+
+        final Path compiled = properties.resolveSibling(properties.getFileName() + COMPILED_EXTENSION);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compiled)))) {
+            output.writeInt(MAGIC);
+            output.writeLong(source.length);
+            output.writeLong(checksum(source));
+            BinaryConfigValues.write(new ArrayList<>(new TreeMap<>(configValueProperties).values()), output);
+        }
+        return compiled;
+    }
+
+    /**
+     * Reads the values of a compiled file.
+     *
+     * @param compiled the contents of the compiled file
+     * @param source the contents of the properties file
+     * @param location the location of the compiled file, for error messages
+     * @return the values, or {@code null} if the file was compiled from different contents of the properties file
+     * @throws IllegalArgumentException if the compiled file is not valid
+     */
+    static BinaryConfigValues read(final ByteBuffer compiled, final byte[] source, final String location) {
+        if (compiled.limit() < HEADER || compiled.getInt(0) != MAGIC) {
+            throw ConfigMessages.msg.invalidBinaryConfigValues(location);
+        }
+        if (compiled.getLong(4) != source.length || compiled.getLong(12) != checksum(source)) {
+            return null;
+        }
+        compiled.position(HEADER);
+        return BinaryConfigValues.of(compiled.slice(), location);
+    }
+
+    private static long checksum(final byte[] source) {
+        final CRC32 crc = new CRC32();
+        crc.update(source, 0, source.length);
+        return crc.getValue();
+    }
+}
@@ -39,11 +39,15 @@ public class PropertiesConfigSource extends MapBackedConfigSource {
      * @throws IOException if an error occurred when reading from the input stream
      */
     public PropertiesConfigSource(URL url) throws IOException {
-        super(NAME_PREFIX + url.toString() + "]", ConfigSourceUtil.urlToMap(url));
+        super(NAME_PREFIX + url.toString() + "]", ConfigValuesPool.pooled(ConfigSourceUtil.urlToMap(url)));
     }
 
     public PropertiesConfigSource(URL url, int ordinal) throws IOException {
-        super(NAME_PREFIX + url.toString() + "]", ConfigSourceUtil.urlToMap(url), ordinal);
+        super(NAME_PREFIX + url.toString() + "]", ConfigValuesPool.pooled(ConfigSourceUtil.urlToMap(url)), ordinal);
+    }
+
+    PropertiesConfigSource(URL url, Map<String, String> properties, int ordinal) {
+        super(NAME_PREFIX + url.toString() + "]", properties, ordinal);
     }
 
     public PropertiesConfigSource(Properties properties, String source) {
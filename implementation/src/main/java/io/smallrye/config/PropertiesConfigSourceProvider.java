@@ -15,10 +15,15 @@
  */
 package io.smallrye.config;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
@@ -55,9 +60,70 @@ public class PropertiesConfigSourceProvider extends AbstractLocationConfigSource
         return new String[] { "properties" };
     }
 
+    /**
+     * Loads the properties compiled by {@link PropertiesCompiler} if found next to the properties file, and compiled
+     * from the current contents of the properties file, or else parses the properties file. The compiled file is
+     * looked up with the {@link java.net.URLStreamHandler} of the properties file, and any error reading it falls back
+     * to parsing the properties file.
+     * <p>
+     *
+     * When the compiled file is found, both files are read fully, and the properties file is checksummed to detect a
+     * stale compiled file. The compiled file is kept in memory for the lifetime of the source, with the names and values
+     * as UTF-16 chars, which is about twice the size of the properties text.
+     */
     @Override
     protected ConfigSource loadConfigSource(final URL url, final int ordinal) throws IOException {
-        return new PropertiesConfigSource(url, ordinal);
+        final URL compiled;
+        final byte[] compiledBytes;
+        try {
+            compiled = new URL(url, url.toExternalForm() + PropertiesCompiler.COMPILED_EXTENSION);
+            compiledBytes = readAllBytes(compiled);
+        } catch (IOException e) {
+            return new PropertiesConfigSource(url, ordinal);
+        }
+
+        final BinaryConfigValues values = PropertiesCompiler.read(ByteBuffer.wrap(compiledBytes), readAllBytes(url),
+                compiled.toString());
+        if (values == null) {
+            ConfigLogging.log.staleCompiledProperties(compiled.toString(), url.toString());
+            return new PropertiesConfigSource(url, ordinal);
+        }
+        return new PropertiesConfigSource(url, values.asStringMap(), ordinal);
+    }
+
+    /**
+     * Reads the contents of an {@link URL} in an array of the content length, if known, without copying it.
+     */
+    private static byte[] readAllBytes(final URL url) throws IOException {
+        final URLConnection connection = url.openConnection();
+        try (InputStream input = connection.getInputStream()) {
+            final long length = connection.getContentLengthLong();
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            if (length >= 0 && length < Integer.MAX_VALUE) {
+                final byte[] bytes = new byte[(int) length];
+                int offset = 0;
+                int read;
+                while (offset < bytes.length && (read = input.read(bytes, offset, bytes.length - offset)) != -1) {
+                    offset += read;
+                }
+                if (offset < bytes.length) {
+                    return Arrays.copyOf(bytes, offset);
+                }
+                final int next = input.read();
+                if (next == -1) {
+                    return bytes;
+                }
+                // the content length was not accurate
+                output.write(bytes);
+                output.write(next);
+            }
+            final byte[] chunk = new byte[8192];
+            int read;
+            while ((read = input.read(chunk)) != -1) {
+                output.write(chunk, 0, read);
+            }
+            return output.toByteArray();
+        }
     }
 
     @Override
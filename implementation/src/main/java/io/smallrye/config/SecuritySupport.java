@@ -47,6 +47,17 @@ class SecuritySupport {
         }
     }
 
+    static void setContextClassLoader(ClassLoader classLoader) {
+        if (System.getSecurityManager() == null) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+        } else {
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                Thread.currentThread().setContextClassLoader(classLoader);
+                return null;
+            });
+        }
+    }
+
     static void setAccessible(AccessibleObject object, boolean flag) {
         if (System.getSecurityManager() == null) {
             object.setAccessible(flag);
@@ -70,6 +70,12 @@ public class SmallRyeConfig implements Config, Serializable {
         this.mappings = mappings;
     }
 
+    SmallRyeConfig(ConfigSnapshot snapshot, ConfigMappings mappings) {
+        this.configSources = new ConfigSources(snapshot);
+        this.converters = new ConcurrentHashMap<>(snapshot.getConverters());
+        this.mappings = mappings;
+    }
+
     private List<ConfigSource> buildConfigSources(final SmallRyeConfigBuilder builder) {
         final List<ConfigSource> sourcesToBuild = new ArrayList<>(builder.getSources());
         if (builder.isAddDiscoveredSources()) {
@@ -245,9 +251,15 @@ public class SmallRyeConfig implements Config, Serializable {
      * 
      * This method handles calls from both {@link Config#getValue} and {@link Config#getOptionalValue}.<br>
      */
-    @SuppressWarnings("unchecked")
     public <T> T getValue(String name, Converter<T> converter) {
-        final ConfigValue configValue = getConfigValue(name);
+        return convertValue(name, getConfigValue(name), converter);
+    }
+
+    /**
+     * Convert a {@link ConfigValue} with the same rules of {@link #getValue(String, Converter)}.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T convertValue(final String name, final ConfigValue configValue, final Converter<T> converter) {
         if (ConfigValueConverter.CONFIG_VALUE_CONVERTER.equals(converter)) {
             return (T) configValue;
         }
@@ -264,6 +276,64 @@ public class SmallRyeConfig implements Config, Serializable {
         return convertValue(name, value, converter);
     }
 
+    /**
+     * Return the values of multiple configuration properties at once, converted with the {@link Converter} of the
+     * same index.
+     * <p>
+     *
+     * Unlike calling {@link #getValue(String, Converter)} for each name, a missing or invalid value does not stop the
+     * lookup. All the properties are resolved and converted, and every problem found is reported together.
+     *
+     * @param names the configuration property names
+     * @param converters the converters to use for each property, in the same order as the names
+     * @return the converted values, in the same order as the names
+     * @throws ConfigValidationException if one or more properties are missing or cannot be converted
+     */
+    @Experimental("Extension to retrieve multiple values at once")
+    public Object[] getValues(final String[] names, final Converter<?>[] converters) {
+        if (names.length != converters.length) {
+            throw ConfigMessages.msg.namesAndConvertersMismatch(names.length, converters.length);
+        }
+
+        final Object[] values = new Object[names.length];
+        List<ConfigValidationException.Problem> problems = null;
+        for (int i = 0; i < names.length; i++) {
+            try {
+                values[i] = getValue(names[i], converters[i]);
+            } catch (NoSuchElementException | IllegalArgumentException e) {
+                if (problems == null) {
+                    problems = new ArrayList<>();
+                }
+                problems.add(new ConfigValidationException.Problem(e.getMessage()));
+            }
+        }
+
+        if (problems != null) {
+            throw new ConfigValidationException(problems.toArray(ConfigValidationException.Problem.NO_PROBLEMS));
+        }
+        return values;
+    }
+
+    /**
+     * Return the values of multiple configuration properties at once, converted to the type of the same index. The
+     * {@link Converter} for each type is only looked up once, even if the type is requested for multiple properties.
+     *
+     * @param names the configuration property names
+     * @param types the types to convert each property, in the same order as the names
+     * @return the converted values, in the same order as the names
+     * @throws ConfigValidationException if one or more properties are missing or cannot be converted
+     * @see #getValues(String[], Converter[])
+     */
+    @Experimental("Extension to retrieve multiple values at once")
+    public Object[] getValues(final String[] names, final Class<?>[] types) {
+        final Converter<?>[] converters = new Converter<?>[types.length];
+        final Map<Class<?>, Converter<?>> resolved = new HashMap<>();
+        for (int i = 0; i < types.length; i++) {
+            converters[i] = resolved.computeIfAbsent(types[i], this::requireConverter);
+        }
+        return getValues(names, converters);
+    }
+
     /**
      * 
      * This method handles converting values for both CDI injections and programatical calls.<br>
@@ -423,6 +493,29 @@ public class SmallRyeConfig implements Config, Serializable {
         return mappings.getConfigMapping(type, prefix);
     }
 
+    /**
+     * Estimates the memory retained by the configuration, per {@link ConfigSource} and per mapping root. The report
+     * walks the properties of all sources and the mapped objects, so it should only be used for diagnostics.
+     *
+     * @return a {@link ConfigMemoryReport}
+     */
+    @Experimental("Estimate of the memory retained by the configuration")
+    public ConfigMemoryReport getMemoryReport() {
+        return ConfigMemoryReport.of(this);
+    }
+
+    /**
+     * Takes a snapshot of this config, to build a config with the same sources, interceptors, converters and mappings
+     * with {@link SmallRyeConfigBuilder#fromSnapshot(ConfigSnapshot)}.
+     *
+     * @return a {@link ConfigSnapshot}
+     */
+    @Experimental("Snapshot of the config to build it again")
+    public ConfigSnapshot getSnapshot() {
+        return new ConfigSnapshot(configSources.getProfiles(), configSources.copyInterceptors(), converters,
+                mappings.getConfigValidator(), mappings.getMappingsBuilder());
+    }
+
     @Override
     public Iterable<String> getPropertyNames() {
         final HashSet<String> names = new HashSet<>();
@@ -528,6 +621,7 @@ public class SmallRyeConfig implements Config, Serializable {
 
         private final List<String> profiles;
         private final List<ConfigSource> sources;
+        private final List<ConfigSourceInterceptorWithPriority> interceptors;
         private final ConfigSourceInterceptorContext interceptorChain;
 
         /**
@@ -581,6 +675,28 @@ public class SmallRyeConfig implements Config, Serializable {
 
             this.profiles = profiles;
             this.sources = Collections.unmodifiableList(configSources);
+            this.interceptors = Collections.unmodifiableList(initInterceptors);
+            this.interceptorChain = current;
+        }
+
+        /**
+         * Builds a representation of Config Sources, Interceptors and the Interceptor chain from the initialized
+         * interceptors of a snapshot, in the same order.
+         *
+         * @param snapshot the snapshot of another Config.
+         */
+        ConfigSources(final ConfigSnapshot snapshot) {
+            final List<ConfigSourceInterceptorWithPriority> initInterceptors = new ArrayList<>();
+            SmallRyeConfigSourceInterceptorContext current = new SmallRyeConfigSourceInterceptorContext(EMPTY, null);
+            for (ConfigSourceInterceptorWithPriority interceptor : snapshot.getInterceptors()) {
+                final ConfigSourceInterceptorWithPriority initInterceptor = interceptor.copy();
+                current = new SmallRyeConfigSourceInterceptorContext(initInterceptor.getInterceptor(), current);
+                initInterceptors.add(initInterceptor);
+            }
+
+            this.profiles = snapshot.getProfiles();
+            this.sources = Collections.unmodifiableList(getSources(initInterceptors));
+            this.interceptors = Collections.unmodifiableList(initInterceptors);
             this.interceptorChain = current;
         }
 
@@ -686,6 +802,17 @@ public class SmallRyeConfig implements Config, Serializable {
             return sources;
         }
 
+        /**
+         * @return the initialized Interceptors, with copies of the Config Sources that may still change
+         */
+        List<ConfigSourceInterceptorWithPriority> copyInterceptors() {
+            final List<ConfigSourceInterceptorWithPriority> copies = new ArrayList<>();
+            for (ConfigSourceInterceptorWithPriority interceptor : interceptors) {
+                copies.add(interceptor.copy());
+            }
+            return Collections.unmodifiableList(copies);
+        }
+
         ConfigSourceInterceptorContext getInterceptorChain() {
             return interceptorChain;
         }
@@ -745,6 +872,22 @@ public class SmallRyeConfig implements Config, Serializable {
             return new ConfigSourceInterceptorWithPriority(this.getInterceptor(context), this.priority, this.name);
         }
 
+        /**
+         * Copies an initialized interceptor. Only the {@link DefaultValuesConfigSource} is copied, because mappings
+         * register their default values in it. Other sources and interceptors are shared.
+         */
+        ConfigSourceInterceptorWithPriority copy() {
+            final ConfigSourceInterceptor interceptor = getInterceptor();
+            if (interceptor instanceof SmallRyeConfigSourceInterceptor) {
+                final ConfigSource source = ((SmallRyeConfigSourceInterceptor) interceptor).getSource();
+                if (source instanceof DefaultValuesConfigSource) {
+                    return new ConfigSourceInterceptorWithPriority(
+                            configSourceInterceptor(((DefaultValuesConfigSource) source).copy()), this.priority, this.name);
+                }
+            }
+            return this;
+        }
+
         private static int loadPrioritySequence = 0;
         private static int loadPrioritySequenceNumber = 1;
 
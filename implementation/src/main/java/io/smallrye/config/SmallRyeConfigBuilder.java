@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.OptionalInt;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,7 +55,12 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     private final Set<String> secretKeys = new HashSet<>();
     private final List<InterceptorWithPriority> interceptors = new ArrayList<>();
     private final KeyMap<String> defaultValues = new KeyMap<>();
-    private final ConfigMappingProvider.Builder mappingsBuilder = ConfigMappingProvider.builder();
+    private ConfigMappingProvider.Builder mappingsBuilder = ConfigMappingProvider.builder();
+    /**
+     * If the {@link #mappingsBuilder} is kept by a built {@link SmallRyeConfig} for its snapshots, and must be copied
+     * before it is changed.
+     */
+    private boolean mappingsBuilderShared = false;
     private ConfigValidator validator = ConfigValidator.EMPTY;
     private ClassLoader classLoader = SecuritySupport.getContextClassLoader();
     private boolean addDefaultSources = false;
@@ -63,6 +69,7 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     private boolean addDiscoveredConverters = false;
     private boolean addDiscoveredInterceptors = false;
     private boolean addDiscoveredValidator = false;
+    private ConfigSnapshot snapshot;
 
     public SmallRyeConfigBuilder() {
     }
@@ -285,17 +292,85 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     }
 
     public SmallRyeConfigBuilder withMapping(Class<?> klass, String prefix) {
-        mappingsBuilder.addRoot(prefix, klass);
+        mappingsBuilder().addRoot(prefix, klass);
         return this;
     }
 
     public SmallRyeConfigBuilder withMappingIgnore(String path) {
-        mappingsBuilder.addIgnored(path);
+        mappingsBuilder().addIgnored(path);
+        return this;
+    }
+
+    /**
+     * Map the registered {@link ConfigMapping} roots on first access, with {@link SmallRyeConfig#getConfigMapping},
+     * instead of when the {@link SmallRyeConfig} is built. Errors in a mapping are only reported when the mapping is
+     * requested.
+     *
+     * @param lazyMappings {@code true} to map the roots on first access
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withLazyMappings(boolean lazyMappings) {
+        mappingsBuilder().lazy(lazyMappings);
+        return this;
+    }
+
+    /**
+     * Map the registered {@link ConfigMapping} roots concurrently, when the {@link SmallRyeConfig} is built. Roots
+     * which do not share the first segment of their prefix are mapped independently, in the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param parallelMappings {@code true} to map the roots concurrently
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withParallelMappings(boolean parallelMappings) {
+        mappingsBuilder().parallel(parallelMappings);
+        return this;
+    }
+
+    /**
+     * Map the registered {@link ConfigMapping} roots concurrently, when the {@link SmallRyeConfig} is built, in the
+     * given {@link Executor}, instead of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param executor the executor to map the roots in
+     * @return this builder
+     * @see #withParallelMappings(boolean)
+     */
+    public SmallRyeConfigBuilder withParallelMappings(Executor executor) {
+        mappingsBuilder().parallel(true);
+        mappingsBuilder().executor(executor);
+        return this;
+    }
+
+    /**
+     * Convert the values of the {@link ConfigMapping} leaf properties (except primitives) when the property method is
+     * called for the first time, instead of when the mapping is performed. A missing required property is still
+     * reported when mapping, but a conversion problem is only thrown by the property method, unless the conversion is
+     * validated with {@link #withValidateConversion(boolean)}.
+     *
+     * @param lazyConversion {@code true} to convert the values on first access
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withLazyConversion(boolean lazyConversion) {
+        mappingsBuilder().lazyConversion(lazyConversion);
+        return this;
+    }
+
+    /**
+     * Validate the conversion of the {@link ConfigMapping} leaf properties when the mapping is performed, with
+     * {@link #withLazyConversion(boolean)}. Each value is converted once when mapping, and the conversion problems are
+     * reported with the other mapping problems. The converted values are kept, so the property methods do not convert
+     * them again. Values are always converted when mapping without lazy conversion.
+     *
+     * @param validateConversion {@code true} to convert the values when mapping
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withValidateConversion(boolean validateConversion) {
+        mappingsBuilder().validateConversion(validateConversion);
         return this;
     }
 
     public SmallRyeConfigBuilder withValidateUnknown(boolean validateUnknown) {
-        mappingsBuilder.validateUnknown(validateUnknown);
+        mappingsBuilder().validateUnknown(validateUnknown);
         withDefaultValue(SmallRyeConfig.SMALLRYE_CONFIG_MAPPING_VALIDATE_UNKNOWN, Boolean.toString(validateUnknown));
         return this;
     }
@@ -305,6 +380,27 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return this;
     }
 
+    /**
+     * Builds the config from a {@link ConfigSnapshot}, taken with {@link SmallRyeConfig#getSnapshot()}. The config
+     * uses the sources, interceptors, converters and mappings of the snapshot, without discovering or initializing
+     * them again. The builder cannot have any other configuration, except for the class loader.
+     *
+     * @param snapshot the snapshot of a config
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder fromSnapshot(ConfigSnapshot snapshot) {
+        this.snapshot = snapshot;
+        return this;
+    }
+
+    private ConfigMappingProvider.Builder mappingsBuilder() {
+        if (mappingsBuilderShared) {
+            mappingsBuilder = mappingsBuilder.copy();
+            mappingsBuilderShared = false;
+        }
+        return mappingsBuilder;
+    }
+
     @Override
     public SmallRyeConfigBuilder withConverters(Converter<?>[] converters) {
         for (Converter<?> converter : converters) {
@@ -394,12 +490,21 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
     @Override
     public SmallRyeConfig build() {
+        if (snapshot != null) {
+            if (isConfigured()) {
+                throw ConfigMessages.msg.snapshotWithConfiguration();
+            }
+            return build(snapshot);
+        }
+
         ConfigMappingProvider mappingProvider = mappingsBuilder.build();
         defaultValues.putAll(mappingProvider.getDefaultValues());
 
         try {
-            ConfigMappings configMappings = new ConfigMappings(getValidator());
-            SmallRyeConfig config = new SmallRyeConfig(this, configMappings);
+            // the config keeps the mappings builder for its snapshots; it is copied if this builder changes it again
+            mappingsBuilderShared = true;
+            ConfigMappings configMappings = new ConfigMappings(getValidator(), mappingsBuilder);
+            SmallRyeConfig config = ConfigValuesPool.doPooled(() -> new SmallRyeConfig(this, configMappings));
             mappingProvider.mapConfiguration(config);
             return config;
         } catch (ConfigValidationException e) {
@@ -407,6 +512,31 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         }
     }
 
+    /**
+     * @return {@code true} if anything other than the class loader or the snapshot was set in this builder
+     */
+    private boolean isConfigured() {
+        return !sources.isEmpty() || !converters.isEmpty() || !profiles.isEmpty() || !secretKeys.isEmpty()
+                || !interceptors.isEmpty() || !defaultValues.isEmpty() || validator != ConfigValidator.EMPTY
+                || addDefaultSources || addDefaultInterceptors || addDiscoveredSources || addDiscoveredConverters
+                || addDiscoveredInterceptors || addDiscoveredValidator
+                || !mappingsBuilder.types.isEmpty() || !mappingsBuilder.ignored.isEmpty() || !mappingsBuilder.validateUnknown
+                || mappingsBuilder.lazy || mappingsBuilder.parallel || mappingsBuilder.executor != null
+                || mappingsBuilder.lazyConversion || mappingsBuilder.validateConversion;
+    }
+
+    private static SmallRyeConfig build(final ConfigSnapshot snapshot) {
+        try {
+            ConfigMappingProvider.Builder mappingsBuilder = snapshot.getMappingsBuilder();
+            ConfigMappings configMappings = new ConfigMappings(snapshot.getValidator(), mappingsBuilder);
+            SmallRyeConfig config = new SmallRyeConfig(snapshot, configMappings);
+            mappingsBuilder.build().mapConfiguration(config);
+            return config;
+        } catch (ConfigValidationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     static class ConverterWithPriority {
         private final Converter<?> converter;
         private final int priority;
@@ -0,0 +1,76 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class CompactCollectionsTest {
+    @Test
+    void list() {
+        List<String> list = new ArrayList<>(100);
+        list.add("a");
+        list.add("b");
+        Collection<String> copy = CompactCollections.copyOf(list);
+        assertEquals(list, copy);
+        assertEquals(list.hashCode(), copy.hashCode());
+        assertThrows(UnsupportedOperationException.class, () -> copy.add("c"));
+    }
+
+    @Test
+    void set() {
+        Set<String> set = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add("value" + i);
+        }
+        // same hash
+        set.add("Aa");
+        set.add("BB");
+        Collection<String> copy = CompactCollections.copyOf(set);
+        assertEquals(set, copy);
+        assertEquals(copy, set);
+        assertEquals(set.hashCode(), copy.hashCode());
+        assertTrue(copy.contains("Aa"));
+        assertTrue(copy.contains("BB"));
+        assertFalse(copy.contains("CC"));
+        assertFalse(copy.contains(null));
+        assertThrows(UnsupportedOperationException.class, () -> copy.remove("Aa"));
+    }
+
+    @Test
+    void map() {
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        map.put("Aa", "Aa");
+        map.put("BB", null);
+        Map<String, String> nested = new HashMap<>();
+        nested.put("one", "1");
+        map.put("nested", nested);
+
+        Map<String, Object> copy = CompactCollections.copyOf(map);
+        assertEquals(map, copy);
+        assertEquals(copy, map);
+        assertEquals(map.hashCode(), copy.hashCode());
+        assertEquals("value50", copy.get("key50"));
+        assertEquals("Aa", copy.get("Aa"));
+        assertNull(copy.get("BB"));
+        assertTrue(copy.containsKey("BB"));
+        assertFalse(copy.containsKey("CC"));
+        assertNull(copy.get(null));
+        assertThrows(UnsupportedOperationException.class, () -> copy.put("CC", "CC"));
+        assertThrows(UnsupportedOperationException.class, () -> ((Map<String, String>) copy.get("nested")).clear());
+    }
+}
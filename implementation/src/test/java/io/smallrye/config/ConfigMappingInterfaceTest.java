@@ -7,15 +7,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.eclipse.microprofile.config.spi.Converter;
@@ -795,6 +803,257 @@ class ConfigMappingInterfaceTest {
                 ((ConfigValidationException) exception.getCause()).getProblem(0).getMessage());
     }
 
+    @Test
+    void lazyMappings() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withLazyMappings(true)
+                .withMapping(ServerPrefix.class, "server")
+                .withMapping(ServerNamePrefix.class, "server")
+                .withMapping(ServerPrefix.class, "cloud.server")
+                .withMapping(ServerPrefix.class, "broken")
+                .withSources(config("server.host", "localhost", "server.port", "8080"))
+                .withSources(config("cloud.server.host", "cloud", "cloud.server.port", "9090"))
+                .withSources(config("broken.host", "localhost", "broken.port", "broken"))
+                .build();
+
+        ServerPrefix server = config.getConfigMapping(ServerPrefix.class, "server");
+        assertEquals("localhost", server.host());
+        assertEquals(8080, server.port());
+        assertSame(server, config.getConfigMapping(ServerPrefix.class, "server"));
+        assertEquals("localhost", config.getConfigMapping(ServerNamePrefix.class, "server").host());
+
+        ServerPrefix cloud = config.getConfigMapping(ServerPrefix.class, "cloud.server");
+        assertEquals("cloud", cloud.host());
+        assertEquals(9090, cloud.port());
+
+        assertThrows(ConfigValidationException.class, () -> config.getConfigMapping(ServerPrefix.class, "broken"));
+        assertThrows(NoSuchElementException.class, () -> config.getConfigMapping(ServerPrefix.class, "unknown"));
+    }
+
+    @Test
+    void parallelMappings() {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .withParallelMappings(true)
+                .withMapping(ServerPrefix.class, "server")
+                .withMapping(ServerNamePrefix.class, "server")
+                .withMapping(ServerPrefix.class, "cloud.server")
+                .withMapping(ServerPrefix.class, "other")
+                .withSources(config("server.host", "localhost", "server.port", "8080"))
+                .withSources(config("cloud.server.host", "cloud", "cloud.server.port", "9090"))
+                .withSources(config("other.host", "other", "other.port", "7070"));
+
+        SmallRyeConfig config = builder.build();
+        assertEquals("localhost", config.getConfigMapping(ServerPrefix.class, "server").host());
+        assertEquals("localhost", config.getConfigMapping(ServerNamePrefix.class, "server").host());
+        assertEquals(9090, config.getConfigMapping(ServerPrefix.class, "cloud.server").port());
+        assertEquals(7070, config.getConfigMapping(ServerPrefix.class, "other").port());
+
+        builder.withSources(config("cloud.server.name", "cloud", "server.name", "localhost"));
+        IllegalStateException exception = assertThrows(IllegalStateException.class, builder::build);
+        ConfigValidationException validationException = (ConfigValidationException) exception.getCause();
+        assertEquals(2, validationException.getProblemCount());
+        assertEquals("cloud.server.name does not map to any root", validationException.getProblem(0).getMessage());
+        assertEquals("server.name does not map to any root", validationException.getProblem(1).getMessage());
+    }
+
+    @Test
+    void parallelMappingsExecutor() {
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = task -> {
+            tasks.incrementAndGet();
+            Thread thread = new Thread(task);
+            // the mapping must not depend on the context class loader of the executor threads
+            thread.setContextClassLoader(null);
+            thread.start();
+        };
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withParallelMappings(executor)
+                .withMapping(ServerType.class, "server")
+                .withMapping(ServerType.class, "other")
+                .withSources(config("server.type", ServerPrefix.class.getName(), "other.type", Server.class.getName()))
+                .build();
+
+        assertEquals(2, tasks.get());
+        assertEquals(ServerPrefix.class, config.getConfigMapping(ServerType.class, "server").type());
+        assertEquals(Server.class, config.getConfigMapping(ServerType.class, "other").type());
+    }
+
+    public interface ServerType {
+        Class<?> type();
+    }
+
+    @ConfigMapping(prefix = "frozen")
+    public interface FrozenCollections {
+        List<String> list();
+
+        Set<Integer> set();
+
+        Map<String, String> map();
+
+        Map<String, Map<String, String>> nested();
+
+        List<Item> items();
+
+        interface Item {
+            String name();
+        }
+    }
+
+    @Test
+    void frozenCollections() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(FrozenCollections.class)
+                .withSources(config("frozen.list", "a,b,c", "frozen.set", "1,2,2,3", "frozen.map.one", "1",
+                        "frozen.map.two", "2", "frozen.nested.x.one", "1", "frozen.items[0].name", "first",
+                        "frozen.items[1].name", "second"))
+                .build();
+
+        FrozenCollections mapping = config.getConfigMapping(FrozenCollections.class);
+        assertEquals(Arrays.asList("a", "b", "c"), mapping.list());
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), mapping.set());
+        assertEquals("1", mapping.map().get("one"));
+        assertEquals("2", mapping.map().get("two"));
+        assertEquals("1", mapping.nested().values().iterator().next().get("one"));
+        assertEquals(2, mapping.items().size());
+        assertEquals("second", mapping.items().get(1).name());
+
+        assertThrows(UnsupportedOperationException.class, () -> mapping.list().add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> mapping.set().add(4));
+        assertThrows(UnsupportedOperationException.class, () -> mapping.map().put("three", "3"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> mapping.nested().values().iterator().next().put("two", "2"));
+        assertThrows(UnsupportedOperationException.class, () -> mapping.items().remove(0));
+    }
+
+    @ConfigMapping(prefix = "shared")
+    public interface SharedConverters {
+        @WithConverter(FooBarConverter.class)
+        String foo();
+
+        Integer number();
+
+        Map<Integer, String> values();
+    }
+
+    @Test
+    void sharedConverters() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(SharedConverters.class)
+                .withSources(config("shared.foo", "foo", "shared.number", "1", "shared.values.1", "one"))
+                .build();
+        SmallRyeConfig custom = new SmallRyeConfigBuilder()
+                .withMapping(SharedConverters.class)
+                .withConverter(Integer.class, 200, value -> Integer.valueOf(value) * 10)
+                .withSources(config("shared.foo", "foo", "shared.number", "1", "shared.values.1", "one"))
+                .build();
+
+        SharedConverters mapping = config.getConfigMapping(SharedConverters.class);
+        assertEquals("bar", mapping.foo());
+        assertEquals(1, mapping.number());
+        assertEquals("one", mapping.values().get(1));
+
+        SharedConverters customMapping = custom.getConfigMapping(SharedConverters.class);
+        assertEquals("bar", customMapping.foo());
+        assertEquals(10, customMapping.number());
+        assertEquals("one", customMapping.values().get(10));
+
+        assertSame(new ConfigMappingContext(config).getConverterInstance(FooBarConverter.class),
+                new ConfigMappingContext(custom).getConverterInstance(FooBarConverter.class));
+    }
+
+    @ConfigMapping(prefix = "lazy")
+    public interface LazyConversion {
+        String host();
+
+        int port();
+
+        Optional<Integer> timeout();
+
+        Integer retries();
+    }
+
+    @Test
+    void lazyConversion() throws Exception {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(LazyConversion.class)
+                .withLazyConversion(true)
+                .withSources(config("lazy.host", "localhost", "lazy.port", "8080", "lazy.timeout", "10",
+                        "lazy.retries", "broken"))
+                .build();
+
+        LazyConversion mapping = config.getConfigMapping(LazyConversion.class);
+        assertNotNull(getField(mapping, "host$lazy"));
+        assertEquals("localhost", mapping.host());
+        assertSame(mapping.host(), mapping.host());
+        assertEquals(8080, mapping.port());
+        assertEquals(Optional.of(10), mapping.timeout());
+        assertThrows(IllegalArgumentException.class, mapping::retries);
+
+        // the same implementation class, converting when mapping
+        SmallRyeConfig eager = new SmallRyeConfigBuilder()
+                .withMapping(LazyConversion.class)
+                .withSources(config("lazy.host", "localhost", "lazy.port", "8080", "lazy.retries", "3"))
+                .build();
+        LazyConversion eagerMapping = eager.getConfigMapping(LazyConversion.class);
+        assertSame(mapping.getClass(), eagerMapping.getClass());
+        assertNull(getField(eagerMapping, "host$lazy"));
+        assertEquals("localhost", eagerMapping.host());
+        assertEquals(Optional.empty(), eagerMapping.timeout());
+        assertEquals(3, eagerMapping.retries());
+
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .withMapping(LazyConversion.class)
+                .withSources(config("lazy.host", "localhost", "lazy.port", "8080", "lazy.retries", "broken"));
+        IllegalStateException exception = assertThrows(IllegalStateException.class, builder::build);
+        ConfigValidationException validationException = (ConfigValidationException) exception.getCause();
+        assertEquals(1, validationException.getProblemCount());
+        assertTrue(validationException.getProblem(0).getMessage().contains("lazy.retries"));
+
+        builder = new SmallRyeConfigBuilder()
+                .withMapping(LazyConversion.class)
+                .withLazyConversion(true)
+                .withSources(config("lazy.host", "localhost", "lazy.port", "8080"));
+        exception = assertThrows(IllegalStateException.class, builder::build);
+        validationException = (ConfigValidationException) exception.getCause();
+        assertEquals(1, validationException.getProblemCount());
+        assertTrue(validationException.getProblem(0).getMessage().contains("lazy.retries"));
+    }
+
+    @Test
+    void lazyConversionValidated() throws Exception {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .withMapping(LazyConversion.class)
+                .withLazyConversion(true)
+                .withValidateConversion(true)
+                .withSources(config("lazy.host", "localhost", "lazy.port", "8080", "lazy.timeout", "broken",
+                        "lazy.retries", "broken"));
+        IllegalStateException exception = assertThrows(IllegalStateException.class, builder::build);
+        ConfigValidationException validationException = (ConfigValidationException) exception.getCause();
+        assertEquals(2, validationException.getProblemCount());
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(LazyConversion.class)
+                .withLazyConversion(true)
+                .withValidateConversion(true)
+                .withSources(config("lazy.host", "localhost", "lazy.port", "8080", "lazy.retries", "3"))
+                .build();
+        LazyConversion mapping = config.getConfigMapping(LazyConversion.class);
+        Object retries = getField(mapping, "retries$lazy");
+        assertNotNull(retries);
+        // converted when mapping
+        assertEquals(3, getField(retries, "value"));
+        assertNull(getField(retries, "configValue"));
+        assertEquals(3, mapping.retries());
+        assertEquals(Optional.empty(), mapping.timeout());
+    }
+
+    private static Object getField(final Object object, final String name) throws Exception {
+        Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(object);
+    }
+
     @ConfigMapping(prefix = "mapping.server.env")
     public interface ServerMapEnv {
         @WithParentName
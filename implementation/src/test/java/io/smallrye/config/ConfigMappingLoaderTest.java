@@ -1,14 +1,22 @@
 package io.smallrye.config;
 
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ConfigMappingLoaderTest {
     @Test
@@ -47,6 +55,125 @@ class ConfigMappingLoaderTest {
         assertTrue(types.contains(ServerNested.App.class));
     }
 
+    @Test
+    void generateClasses(@TempDir Path output) throws Exception {
+        List<Path> classFiles = ConfigMappingClassGenerator.generate(singletonList(ServerNested.class), output);
+        assertEquals(10, classFiles.size());
+
+        String className = ConfigMappingInterface.getImplementationClassName(ServerNested.class);
+        Path classFile = output.resolve(className.replace('.', '/') + ".class");
+        assertTrue(classFiles.contains(classFile));
+        assertTrue(Files.size(classFile) > 0);
+        assertTrue(classFiles.contains(output.resolve(ConfigMappingIndex.getIndexName(ServerNested.class))));
+
+        // the mapping is loaded from the test classes and the implementation from the generated classes
+        URL classes = ServerNested.class.getProtectionDomain().getCodeSource().getLocation();
+        URL generated = output.toUri().toURL();
+        try (ChildFirstClassLoader classLoader = new ChildFirstClassLoader(new URL[] { generated, classes },
+                ServerNested.class.getName())) {
+            Class<?> mapping = classLoader.loadClass(ServerNested.class.getName());
+            assertSame(classLoader, mapping.getClassLoader());
+
+            Class<?> implementation = ConfigMappingLoader.getImplementationClass(mapping);
+            assertEquals(className, implementation.getName());
+            assertSame(classLoader, implementation.getClassLoader());
+            // not defined at runtime, which would use the code source of the mapping
+            assertEquals(generated, implementation.getProtectionDomain().getCodeSource().getLocation());
+
+            // the metadata is read from the index, not introspected
+            ConfigMappingInterface indexed = ConfigMappingInterface.getConfigurationInterface(mapping);
+            ConfigMappingInterface introspected = ConfigMappingInterface.getConfigurationInterface(ServerNested.class);
+            assertEquals(ConfigMappingIndex.Status.CURRENT, indexed.getIndexStatus());
+            assertEquals(ConfigMappingIndex.Status.NONE, introspected.getIndexStatus());
+            assertEquals(describe(introspected), describe(indexed));
+
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .withSources(KeyValuesConfigSource.config("server.environments.dev.host", "localhost",
+                            "server.environments.dev.port", "8080", "server.log.enabled", "true",
+                            "server.apps[0].name", "app"))
+                    .withMapping(mapping, "server")
+                    .build();
+            Object server = config.getConfigMapping(mapping, "server");
+            Method log = mapping.getMethod("log");
+            log.setAccessible(true);
+            Object serverLog = log.invoke(server);
+            Method enabled = serverLog.getClass().getMethod("enabled");
+            enabled.setAccessible(true);
+            assertEquals(true, enabled.invoke(serverLog));
+        }
+    }
+
+    @Test
+    void staleIndex(@TempDir Path output) throws Exception {
+        ConfigMappingClassGenerator.generate(singletonList(ServerNested.class), output);
+        Path index = output.resolve(ConfigMappingIndex.getIndexName(ServerNested.class));
+        byte[] bytes = Files.readAllBytes(index);
+        // the CRC32 of the interface class file
+        bytes[19] ^= 1;
+        Files.write(index, bytes);
+
+        URL classes = ServerNested.class.getProtectionDomain().getCodeSource().getLocation();
+        URL generated = output.toUri().toURL();
+        try (ChildFirstClassLoader classLoader = new ChildFirstClassLoader(new URL[] { generated, classes },
+                ServerNested.class.getName())) {
+            Class<?> mapping = classLoader.loadClass(ServerNested.class.getName());
+            ConfigMappingInterface introspected = ConfigMappingInterface.getConfigurationInterface(mapping);
+            assertEquals(ConfigMappingIndex.Status.STALE, introspected.getIndexStatus());
+            assertEquals(describe(ConfigMappingInterface.getConfigurationInterface(ServerNested.class)),
+                    describe(introspected));
+
+            // the generated implementation is ignored with the index, and defined at runtime
+            Class<?> implementation = ConfigMappingLoader.getImplementationClass(mapping);
+            assertSame(classLoader, implementation.getClassLoader());
+            assertEquals(classes, implementation.getProtectionDomain().getCodeSource().getLocation());
+        }
+    }
+
+    private static String describe(final ConfigMappingInterface mapping) {
+        StringBuilder sb = new StringBuilder(mapping.getInterfaceType().getName());
+        for (ConfigMappingInterface.Property property : mapping.getProperties()) {
+            describe(property, sb.append(' '));
+        }
+        return sb.toString();
+    }
+
+    private static void describe(final ConfigMappingInterface.Property property, final StringBuilder sb) {
+        sb.append(property.getMethodName()).append('=').append(property.getPropertyName()).append(':');
+        if (property.isPrimitive()) {
+            sb.append(property.asPrimitive().getPrimitiveType());
+        } else if (property.isOptional()) {
+            describe(property.asOptional().getNestedProperty(), sb.append("optional "));
+        } else if (property.isGroup()) {
+            sb.append(describe(property.asGroup().getGroupType()).replace(' ', ','));
+        } else if (property.isLeaf()) {
+            sb.append(property.asLeaf().getValueType().getTypeName());
+        } else if (property.isMap()) {
+            describe(property.asMap().getValueProperty(), sb.append(property.asMap().getKeyType().getTypeName()));
+        } else if (property.isCollection()) {
+            describe(property.asCollection().getElement(), sb.append(property.asCollection().getCollectionRawType()));
+        }
+    }
+
+    static class ChildFirstClassLoader extends URLClassLoader {
+        private final String prefix;
+
+        ChildFirstClassLoader(final URL[] urls, final String prefix) {
+            super(urls, ConfigMappingLoaderTest.class.getClassLoader());
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(prefix)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : findClass(name);
+            }
+        }
+    }
+
     @ConfigMapping(prefix = "server")
     public interface Server {
         String host();
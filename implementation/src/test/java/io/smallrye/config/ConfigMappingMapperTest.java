@@ -0,0 +1,87 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.jupiter.api.Test;
+
+class ConfigMappingMapperTest {
+    @Test
+    void map() throws Exception {
+        ConfigMappingMapper<Server> mapper = new ConfigMappingMapper<>(Server.class, "server");
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.host", "localhost");
+        properties.put("server.aliases[0]", "a");
+        properties.put("server.aliases[1]", "b");
+        Server server = mapper.map(properties);
+        assertEquals("localhost", server.host());
+        assertEquals(8080, server.port());
+        assertEquals(2, server.aliases().size());
+
+        properties = new HashMap<>();
+        properties.put("server.host", "example.org");
+        properties.put("server.port", "9090");
+        properties.put("server.aliases", "c");
+        properties.put("server.unknown", "unknown");
+        Server other = mapper.map(properties);
+        assertNotSame(server, other);
+        assertEquals("example.org", other.host());
+        assertEquals(9090, other.port());
+        assertEquals("c", other.aliases().get(0));
+        assertEquals("localhost", server.host());
+
+        Map<String, String> missing = new HashMap<>();
+        missing.put("server.aliases", "a");
+        assertThrows(ConfigValidationException.class, () -> mapper.map(missing));
+    }
+
+    @Test
+    void mapReentrant() throws Exception {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("node.nested", "map:inner");
+        properties.put("node.title", "outer");
+        Node node = Node.MAPPER.map(properties);
+        assertEquals("inner", node.nested());
+        assertEquals("outer", node.title());
+    }
+
+    @ConfigMapping(prefix = "node")
+    interface Node {
+        ConfigMappingMapper<Node> MAPPER = new ConfigMappingMapper<>(Node.class, "node");
+
+        @WithConverter(NestedNodeConverter.class)
+        String nested();
+
+        String title();
+    }
+
+    public static class NestedNodeConverter implements Converter<String> {
+        @Override
+        public String convert(final String value) {
+            if (!value.startsWith("map:")) {
+                return value;
+            }
+            Map<String, String> properties = new HashMap<>();
+            properties.put("node.nested", "nested");
+            properties.put("node.title", value.substring(4));
+            return Node.MAPPER.map(properties).title();
+        }
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface Server {
+        String host();
+
+        @WithDefault("8080")
+        int port();
+
+        List<String> aliases();
+    }
+}
@@ -7,13 +7,18 @@ import static io.smallrye.config.KeyValuesConfigSource.config;
 import static java.util.Collections.singleton;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.microprofile.config.inject.ConfigProperties;
+import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.Converter;
 import org.junit.jupiter.api.Test;
 
@@ -100,6 +105,19 @@ public class ConfigMappingsTest {
         assertEquals(8080, server.port);
     }
 
+    @Test
+    void validateCanonicalNames() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("server.host", "localhost", "server.port", "8080", "server.HOST", "localhost",
+                        "server.unmapped", "unmapped"))
+                .build();
+
+        ConfigValidationException exception = assertThrows(ConfigValidationException.class,
+                () -> registerConfigMappings(config, singleton(configClassWithPrefix(Server.class, "server"))));
+        assertEquals(1, exception.getProblemCount());
+        assertEquals("server.unmapped does not map to any root", exception.getProblem(0).getMessage());
+    }
+
     @Test
     void validateWithBuilderOrConfig() {
         SmallRyeConfig config = new SmallRyeConfigBuilder()
@@ -128,6 +146,127 @@ public class ConfigMappingsTest {
         assertEquals(8080, server.port);
     }
 
+    @Test
+    void validateOnce() {
+        AtomicInteger validations = new AtomicInteger();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("server.host", "localhost", "server.port", "8080"))
+                .withMapping(ServerClass.class, "server")
+                .withValidator((mappingClass, prefix, mappingObject) -> validations.incrementAndGet())
+                .build();
+
+        ServerClass server = config.getConfigMapping(ServerClass.class);
+        ServerClass otherServer = config.getConfigMapping(ServerClass.class, "server");
+        assertEquals(1, validations.get());
+        assertEquals("localhost", otherServer.host);
+        assertNotSame(server, otherServer);
+    }
+
+    @Test
+    void registerAgain() {
+        AtomicInteger validations = new AtomicInteger();
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.host", "localhost");
+        properties.put("server.port", "8080");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new ConfigSource() {
+                    @Override
+                    public Set<String> getPropertyNames() {
+                        return properties.keySet();
+                    }
+
+                    @Override
+                    public String getValue(final String propertyName) {
+                        return properties.get(propertyName);
+                    }
+
+                    @Override
+                    public String getName() {
+                        return "mutable";
+                    }
+                })
+                .withValidator((mappingClass, prefix, mappingObject) -> validations.incrementAndGet())
+                .build();
+
+        registerConfigMappings(config, singleton(configClassWithPrefix(ServerHost.class, "server")));
+        assertEquals(8080, config.getConfigMapping(ServerHost.class).port());
+        assertEquals(8080, config.getConfigMapping(ServerHost.class).port());
+        assertEquals(1, validations.get());
+
+        properties.put("server.port", "9090");
+        registerConfigMappings(config, singleton(configClassWithPrefix(ServerHost.class, "server")));
+        assertEquals(9090, config.getConfigMapping(ServerHost.class).port());
+        assertEquals(9090, config.getConfigMapping(ServerHost.class, "server").port());
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void registerWhileValidating() {
+        AtomicInteger validations = new AtomicInteger();
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.host", "localhost");
+        properties.put("server.port", "8080");
+        SmallRyeConfig[] config = new SmallRyeConfig[1];
+        config[0] = new SmallRyeConfigBuilder()
+                .withSources(new ConfigSource() {
+                    @Override
+                    public Set<String> getPropertyNames() {
+                        return properties.keySet();
+                    }
+
+                    @Override
+                    public String getValue(final String propertyName) {
+                        return properties.get(propertyName);
+                    }
+
+                    @Override
+                    public String getName() {
+                        return "mutable";
+                    }
+                })
+                .withValidator((mappingClass, prefix, mappingObject) -> {
+                    if (validations.incrementAndGet() == 1) {
+                        // a registration that replaces the mapping while it is validated
+                        properties.put("server.port", "9090");
+                        registerConfigMappings(config[0], singleton(configClassWithPrefix(ServerHost.class, "server")));
+                    }
+                })
+                .build();
+
+        registerConfigMappings(config[0], singleton(configClassWithPrefix(ServerHost.class, "server")));
+        assertEquals(8080, config[0].getConfigMapping(ServerHost.class).port());
+        assertEquals(9090, config[0].getConfigMapping(ServerHost.class).port());
+        assertEquals(9090, config[0].getConfigMapping(ServerHost.class).port());
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void validateUnknownResolvedOnce() {
+        AtomicInteger lookups = new AtomicInteger();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("server.host", "localhost", "server.port", "8080", "server.unmapped", "unmapped",
+                        "server.other", "other", "server.another", "another"))
+                .withInterceptors((ConfigSourceInterceptor) (context, name) -> {
+                    if (SmallRyeConfig.SMALLRYE_CONFIG_MAPPING_VALIDATE_UNKNOWN.equals(name)) {
+                        lookups.incrementAndGet();
+                    }
+                    return context.proceed(name);
+                })
+                .withMapping(Server.class, "server")
+                .withDefaultValue(SmallRyeConfig.SMALLRYE_CONFIG_MAPPING_VALIDATE_UNKNOWN, "false")
+                .build();
+
+        assertEquals("localhost", config.getConfigMapping(Server.class).host());
+        assertEquals(1, lookups.get());
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface ServerHost {
+        String host();
+
+        int port();
+    }
+
     @ConfigMapping(prefix = "server")
     interface Server {
         String host();
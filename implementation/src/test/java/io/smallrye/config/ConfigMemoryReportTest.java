@@ -0,0 +1,53 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ConfigMemoryReportTest {
+    @Test
+    void memoryReport() {
+        Map<String, String> first = new HashMap<>();
+        first.put(new String("server.host"), new String("localhost"));
+        first.put("server.port", "8080");
+        Map<String, String> second = new HashMap<>();
+        second.put(new String("server.host"), new String("localhost"));
+
+        PropertiesConfigSource firstSource = new PropertiesConfigSource(first, "first", 200);
+        PropertiesConfigSource secondSource = new PropertiesConfigSource(second, "second", 100);
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(firstSource, secondSource)
+                .withMapping(Server.class, "server")
+                .build();
+
+        ConfigMemoryReport report = config.getMemoryReport();
+
+        assertTrue(report.getConfigSources().get(firstSource.getName()) > 0);
+        assertTrue(report.getConfigSources().get(secondSource.getName()) > 0);
+        assertTrue(report.getMappings().get("server (" + Server.class.getName() + ")") > 0);
+        assertTrue(report.getStrings() > report.getUniqueStrings());
+        assertTrue(report.getDuplicatedStringsSize() > 0);
+
+        long total = 0;
+        for (Long size : report.getConfigSources().values()) {
+            total += size;
+        }
+        for (Long size : report.getMappings().values()) {
+            total += size;
+        }
+        assertEquals(total, report.getTotalSize());
+        assertTrue(report.toString().contains(firstSource.getName()));
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface Server {
+        String host();
+
+        int port();
+    }
+}
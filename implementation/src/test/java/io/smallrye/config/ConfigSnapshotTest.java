@@ -0,0 +1,182 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+class ConfigSnapshotTest {
+    @Test
+    void snapshot() {
+        AtomicInteger factoryCalls = new AtomicInteger();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("dev")
+                .withSources(config("server.host", "localhost", "server.port", "8080", "%dev.server.port", "9090",
+                        "server.url", "http://${server.host}:${server.port}", "server.names", "a,b,c",
+                        "server.color", "red"))
+                .withSources((ConfigSourceFactory) context -> {
+                    factoryCalls.incrementAndGet();
+                    return singletonList(config("server.factory", context.getValue("server.host").getValue()));
+                })
+                .withInterceptors(new ConfigSourceInterceptor() {
+                    @Override
+                    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+                        ConfigValue configValue = context.proceed(name);
+                        return configValue != null && name.equals("server.color")
+                                ? configValue.withValue(configValue.getValue().toUpperCase())
+                                : configValue;
+                    }
+                })
+                .withConverter(Color.class, 100, value -> new Color(value.toLowerCase()))
+                .withDefaultValue("client.timeout", "10")
+                .withMapping(Server.class, "server")
+                .build();
+
+        ConfigSnapshot snapshot = config.getSnapshot();
+        assertEquals(config.getProfiles(), snapshot.getProfiles());
+        assertEquals(names(config.getConfigSources()), names(snapshot.getConfigSources()));
+
+        SmallRyeConfig restored = new SmallRyeConfigBuilder().fromSnapshot(snapshot).build();
+        assertEquals(1, factoryCalls.get());
+        assertEquals(config.getProfiles(), restored.getProfiles());
+        assertEquals(names(config.getConfigSources()), names(restored.getConfigSources()));
+        assertEquals(set(config.getPropertyNames()), set(restored.getPropertyNames()));
+        for (String name : config.getPropertyNames()) {
+            assertEquals(config.getConfigValue(name), restored.getConfigValue(name), name);
+        }
+        assertEquals("http://localhost:9090", restored.getRawValue("server.url"));
+        assertEquals("localhost", restored.getRawValue("server.factory"));
+        assertEquals("10", restored.getRawValue("client.timeout"));
+        assertEquals("5", restored.getRawValue("server.timeout"));
+        assertEquals("red", restored.getValue("server.color", Color.class).value);
+
+        Server server = config.getConfigMapping(Server.class);
+        Server restoredServer = restored.getConfigMapping(Server.class);
+        assertNotSame(server, restoredServer);
+        assertEquals(server.host(), restoredServer.host());
+        assertEquals(server.port(), restoredServer.port());
+        assertEquals(server.url(), restoredServer.url());
+        assertEquals(server.factory(), restoredServer.factory());
+        assertEquals(server.names(), restoredServer.names());
+        assertEquals(server.timeout(), restoredServer.timeout());
+        assertEquals(server.retries(), restoredServer.retries());
+        assertEquals(server.color().value, restoredServer.color().value);
+
+        // a second config from the same snapshot
+        SmallRyeConfig other = new SmallRyeConfigBuilder().fromSnapshot(snapshot).build();
+        assertEquals(9090, other.getConfigMapping(Server.class).port());
+        assertEquals(1, factoryCalls.get());
+    }
+
+    @Test
+    void snapshotWithConfiguration() {
+        ConfigSnapshot snapshot = new SmallRyeConfigBuilder()
+                .withSources(config("server.host", "localhost"))
+                .build()
+                .getSnapshot();
+
+        assertThrows(IllegalStateException.class, () -> new SmallRyeConfigBuilder()
+                .withMapping(Server.class)
+                .fromSnapshot(snapshot)
+                .build());
+        assertThrows(IllegalStateException.class, () -> new SmallRyeConfigBuilder()
+                .fromSnapshot(snapshot)
+                .withSources(config("server.port", "8080"))
+                .build());
+        assertThrows(IllegalStateException.class, () -> new SmallRyeConfigBuilder()
+                .fromSnapshot(snapshot)
+                .withLazyMappings(true)
+                .build());
+        assertEquals("localhost", new SmallRyeConfigBuilder()
+                .forClassLoader(Thread.currentThread().getContextClassLoader())
+                .fromSnapshot(snapshot)
+                .build()
+                .getRawValue("server.host"));
+    }
+
+    @Test
+    void snapshotMappingsAfterBuild() {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .withSources(config("server.host", "localhost", "server.port", "8080"))
+                .withMapping(Host.class, "server")
+                .withValidateUnknown(false);
+        SmallRyeConfig config = builder.build();
+
+        // changing the builder after the build does not change the mappings of the built config
+        SmallRyeConfig other = builder.withMapping(Port.class, "server").build();
+        assertEquals(8080, other.getConfigMapping(Port.class).port());
+
+        SmallRyeConfig restored = new SmallRyeConfigBuilder().fromSnapshot(config.getSnapshot()).build();
+        assertEquals("localhost", restored.getConfigMapping(Host.class).host());
+        assertThrows(NoSuchElementException.class, () -> restored.getConfigMapping(Port.class));
+    }
+
+    private static List<String> names(final Iterable<ConfigSource> sources) {
+        List<String> names = new ArrayList<>();
+        for (ConfigSource source : sources) {
+            names.add(source.getName());
+        }
+        return names;
+    }
+
+    private static Set<String> set(final Iterable<String> names) {
+        Set<String> set = new HashSet<>();
+        for (String name : names) {
+            set.add(name);
+        }
+        assertTrue(set.size() > 0);
+        return set;
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface Server {
+        String host();
+
+        int port();
+
+        String url();
+
+        String factory();
+
+        List<String> names();
+
+        @WithDefault("5")
+        int timeout();
+
+        Optional<Integer> retries();
+
+        Color color();
+    }
+
+    static class Color {
+        final String value;
+
+        Color(final String value) {
+            this.value = value;
+        }
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface Host {
+        String host();
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface Port {
+        int port();
+    }
+}
@@ -1,10 +1,21 @@
 package io.smallrye.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.io.IOException;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 
+import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ConfigValuePropertiesTest {
     @Test
@@ -77,4 +88,56 @@ class ConfigValuePropertiesTest {
         assertEquals(2, map.get("key2").getLineNumber());
         assertEquals(6, map.get("key3").getLineNumber());
     }
+
+    @Test
+    void sharedValues() throws Exception {
+        final ConfigValueProperties map = new ConfigValueProperties("config", 1);
+        map.load(new StringReader(
+                "server.ssl=true\n" +
+                        "client.ssl=true\n" +
+                        "server.port=8080\n"));
+
+        assertEquals("true", map.get("server.ssl").getValue());
+        assertSame(map.get("server.ssl").getValue(), map.get("client.ssl").getValue());
+        assertSame(map.get("client.ssl").getValue(), map.get("client.ssl").getRawValue());
+        assertSame(map.get("server.ssl").getConfigSourceName(), map.get("server.port").getConfigSourceName());
+    }
+
+    @Test
+    void sharedValuesAcrossSources(@TempDir Path tempDir) throws Exception {
+        Path server = tempDir.resolve("server.properties");
+        Files.write(server, "server.ssl=true\n".getBytes(StandardCharsets.UTF_8));
+        Path client = tempDir.resolve("client.properties");
+        Files.write(client, "client.ssl=true\n".getBytes(StandardCharsets.UTF_8));
+        URL serverUrl = server.toUri().toURL();
+        URL clientUrl = client.toUri().toURL();
+
+        // loaded outside a build, values are only shared within a source
+        assertNotSame(new PropertiesConfigSource(serverUrl).getValue("server.ssl"),
+                new ConfigValuePropertiesConfigSource(clientUrl).getValue("client.ssl"));
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources((ConfigSourceFactory) context -> {
+                    try {
+                        return Arrays.asList(new PropertiesConfigSource(serverUrl),
+                                new ConfigValuePropertiesConfigSource(clientUrl));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .build();
+
+        String serverSsl = null;
+        String clientSsl = null;
+        for (ConfigSource source : config.getConfigSources()) {
+            if (source.getValue("server.ssl") != null) {
+                serverSsl = source.getValue("server.ssl");
+            }
+            if (source.getValue("client.ssl") != null) {
+                clientSsl = source.getValue("client.ssl");
+            }
+        }
+        assertEquals("true", serverSsl);
+        assertSame(serverSsl, clientSsl);
+    }
 }
@@ -17,7 +17,11 @@ package io.smallrye.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
 import java.time.chrono.ChronoLocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,6 +35,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.UUID;
 import java.util.regex.Pattern;
 
 import org.eclipse.microprofile.config.Config;
@@ -377,6 +382,110 @@ class ConvertersTest {
         assertThrows(NullPointerException.class, () -> convertNull(config, OptionalDouble.class));
     }
 
+    @Test
+    void charSequenceRegions() {
+        final String value = "[ 1234 ,true,-9223372036854775808,x, 10,a8098c1a-f86e-11da-bd1a-00112444be1e ]";
+        assertEquals(1234, (int) regionConverter(Integer.class).convert(value, 1, 7));
+        assertTrue(regionConverter(Boolean.class).convert(value, 8, 12));
+        assertEquals(Long.MIN_VALUE, (long) regionConverter(Long.class).convert(value, 13, 33));
+        assertEquals('x', (char) regionConverter(Character.class).convert(value, 34, 35));
+        assertEquals((short) 10, (short) regionConverter(Short.class).convert(value, 36, 39));
+        assertEquals((byte) 10, (byte) regionConverter(Byte.class).convert(value, 36, 39));
+        assertEquals(10.0, regionConverter(Double.class).convert(value, 36, 39));
+        assertEquals(10.0f, regionConverter(Float.class).convert(value, 36, 39));
+        assertEquals(UUID.fromString("a8098c1a-f86e-11da-bd1a-00112444be1e"),
+                regionConverter(UUID.class).convert(value, 40, 76));
+        assertNull(regionConverter(Integer.class).convert(value, 1, 2));
+        assertNull(regionConverter(Character.class).convert(value, 1, 1));
+
+        assertThrows(NumberFormatException.class, () -> regionConverter(Integer.class).convert(value, 0, 7));
+        assertThrows(NumberFormatException.class, () -> regionConverter(Integer.class).convert("2147483648", 0, 10));
+        assertThrows(NumberFormatException.class, () -> regionConverter(Long.class).convert("-", 0, 1));
+        assertThrows(NumberFormatException.class, () -> regionConverter(Byte.class).convert("128", 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> regionConverter(Character.class).convert(value, 1, 7));
+        assertThrows(IllegalArgumentException.class, () -> regionConverter(UUID.class).convert(value, 1, 7));
+        assertEquals(UUID.fromString("1-2-3-4-5"), regionConverter(UUID.class).convert("1-2-3-4-5", 0, 9));
+    }
+
+    @Test
+    void charSequenceCollections() {
+        SmallRyeConfig config = buildConfig("ints", " 1, 2,,3 ,", "booleans", "true,no,ON", "chars", "a,b,c",
+                "escaped", "\\,,b");
+        assertEquals(Arrays.asList(1, 2, 3), config.getValues("ints", Integer.class, ArrayList::new));
+        assertEquals(Arrays.asList(true, false, true), config.getValues("booleans", Boolean.class, ArrayList::new));
+        assertArrayEquals(new int[] { 1, 2, 3 }, config.getValue("ints", int[].class));
+        assertArrayEquals(new char[] { 'a', 'b', 'c' }, config.getValue("chars", char[].class));
+        assertEquals(Arrays.asList(',', 'b'), config.getValues("escaped", Character.class, ArrayList::new));
+    }
+
+    @Test
+    void booleans() {
+        for (String value : array("true", "TRUE", " True ", "1", "yes", "Y", "on", "JA", "j", "si", "SIM", "oui")) {
+            assertSame(Boolean.TRUE, Converters.BOOLEAN_CONVERTER.convert(value), value);
+        }
+        for (String value : array("false", "0", "no", "n", "off", "nein", "truee", "yess", "tru", "o")) {
+            assertSame(Boolean.FALSE, Converters.BOOLEAN_CONVERTER.convert(value), value);
+        }
+        assertNull(Converters.BOOLEAN_CONVERTER.convert(" "));
+    }
+
+    @Test
+    void cachedNumbers() {
+        assertSame(Converters.INTEGER_CONVERTER.convert("1024"), Converters.INTEGER_CONVERTER.convert(" 1024"));
+        assertSame(Converters.LONG_CONVERTER.convert("500"), Converters.LONG_CONVERTER.convert("+500"));
+        assertEquals(Integer.valueOf(1025), Converters.INTEGER_CONVERTER.convert("1025"));
+        assertEquals(Integer.valueOf(-1000), Converters.INTEGER_CONVERTER.convert("-1000"));
+        assertEquals(Long.valueOf(999999999999999999L), Converters.LONG_CONVERTER.convert("999999999999999999"));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), Converters.LONG_CONVERTER.convert("9223372036854775807"));
+        assertThrows(NumberFormatException.class, () -> Converters.LONG_CONVERTER.convert("9223372036854775808"));
+        assertThrows(NumberFormatException.class, () -> Converters.INTEGER_CONVERTER.convert("-2147483649"));
+        assertThrows(NumberFormatException.class, () -> Converters.INTEGER_CONVERTER.convert("12a"));
+    }
+
+    @Test
+    void durations() {
+        SmallRyeConfig config = buildConfig("ms", "500ms", "s", " 30s ", "m", "5m", "h", "2H", "d", "1d", "seconds", "10",
+                "iso", "PT1M30S", "list", "1s,2m,PT3H", "invalid", "5x");
+        assertEquals(Duration.ofMillis(500), config.getValue("ms", Duration.class));
+        assertEquals(Duration.ofSeconds(30), config.getValue("s", Duration.class));
+        assertEquals(Duration.ofMinutes(5), config.getValue("m", Duration.class));
+        assertEquals(Duration.ofHours(2), config.getValue("h", Duration.class));
+        assertEquals(Duration.ofDays(1), config.getValue("d", Duration.class));
+        assertEquals(Duration.ofSeconds(10), config.getValue("seconds", Duration.class));
+        assertEquals(Duration.ofSeconds(90), config.getValue("iso", Duration.class));
+        assertEquals(Arrays.asList(Duration.ofSeconds(1), Duration.ofMinutes(2), Duration.ofHours(3)),
+                config.getValues("list", Duration.class));
+        assertSame(config.getValue("m", Duration.class), config.getValue("m", Duration.class));
+        assertThrows(IllegalArgumentException.class, () -> config.getValue("invalid", Duration.class));
+    }
+
+    @Test
+    void dataSizes() {
+        SmallRyeConfig config = buildConfig("bytes", "512", "b", "512B", "kb", "64KB", "k", "64k", "gib", " 1GiB ",
+                "list", "1M,2MB,3mib", "invalid", "64KiBs", "overflow", "9223372036854775807K");
+        assertEquals(512, config.getValue("bytes", DataSize.class).toBytes());
+        assertEquals(512, config.getValue("b", DataSize.class).toBytes());
+        assertEquals(64 * 1024, config.getValue("kb", DataSize.class).toBytes());
+        assertEquals(DataSize.ofKilobytes(64), config.getValue("k", DataSize.class));
+        assertEquals(1, config.getValue("gib", DataSize.class).toGigabytes());
+        assertEquals(Arrays.asList(DataSize.ofMegabytes(1), DataSize.ofMegabytes(2), DataSize.ofMegabytes(3)),
+                config.getValues("list", DataSize.class));
+        assertThrows(IllegalArgumentException.class, () -> config.getValue("invalid", DataSize.class));
+        assertThrows(IllegalArgumentException.class, () -> config.getValue("overflow", DataSize.class));
+        assertEquals(DataSize.ofGigabytes(1), DataSize.parse("1G"));
+    }
+
+    @Test
+    void temporals() {
+        SmallRyeConfig config = buildConfig("instant", "2021-03-04T10:15:30Z", "time", "10:15", "period", "P1Y2M",
+                "invalid", "10h15");
+        assertEquals(Instant.parse("2021-03-04T10:15:30Z"), config.getValue("instant", Instant.class));
+        assertEquals(LocalTime.of(10, 15), config.getValue("time", LocalTime.class));
+        assertEquals(Period.of(1, 2, 0), config.getValue("period", Period.class));
+        assertThrows(IllegalArgumentException.class, () -> config.getValue("invalid", LocalTime.class));
+        assertThrows(IllegalArgumentException.class, () -> config.getValue("invalid", Instant.class));
+    }
+
     @SafeVarargs
     private static <T> T[] array(T... items) {
         return items;
@@ -389,6 +498,13 @@ class ConvertersTest {
                 .build();
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> CharSequenceConverter<T> regionConverter(Class<T> type) {
+        final Converter<?> converter = Converters.ALL_CONVERTERS.get(type);
+        assertTrue(converter instanceof CharSequenceConverter);
+        return (CharSequenceConverter<T>) converter;
+    }
+
     private static <T> void convertNull(Config config, Class<T> converterType) {
         config.getConverter(converterType)
                 .map(converter -> converter.convert(null))
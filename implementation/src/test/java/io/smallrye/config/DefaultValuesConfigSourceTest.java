@@ -0,0 +1,70 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultValuesConfigSourceTest {
+    @Test
+    void getValue() {
+        KeyMap<String> defaults = new KeyMap<>();
+        defaults.findOrAdd("server.host").putRootValue("localhost");
+        defaults.findOrAdd("server.port").putRootValue("8080");
+        DefaultValuesConfigSource source = new DefaultValuesConfigSource(defaults);
+
+        assertEquals("localhost", source.getValue("server.host"));
+        assertEquals("8080", source.getValue("server.port"));
+        assertEquals("localhost", source.getValue("server.\"host\""));
+        assertNull(source.getValue("server"));
+        assertNull(source.getValue("server.name"));
+
+        KeyMap<String> mappingDefaults = new KeyMap<>();
+        mappingDefaults.findOrAdd("server.name").putRootValue("server");
+        mappingDefaults.findOrAdd("server.*.timeout").putRootValue("10");
+        source.registerDefaults(mappingDefaults);
+
+        assertEquals("server", source.getValue("server.name"));
+        assertEquals("10", source.getValue("server.http.timeout"));
+        assertNull(source.getValue("server.host"));
+    }
+
+    @Test
+    void sameAsKeyMap() {
+        KeyMap<String> defaults = new KeyMap<>();
+        defaults.findOrAdd("root.foo").putRootValue("foo");
+        defaults.findOrAdd("root.foo.bar").putRootValue("bar");
+        defaults.findOrAdd("root.foo.*").putRootValue("foo.star");
+        defaults.findOrAdd("root.foo.*.baz").putRootValue("baz");
+        defaults.findOrAdd("root.*.name").putRootValue("name");
+        defaults.findOrAdd("root.other.value").putRootValue("value");
+        defaults.findOrAdd("root.list[*].name").putRootValue("list.name");
+        defaults.findOrAdd("root.list[1].name").putRootValue("list.one");
+        defaults.findOrAdd("root.\"quoted.key\"").putRootValue("quoted");
+        DefaultValuesConfigSource source = new DefaultValuesConfigSource(defaults);
+
+        for (String name : new String[] { "root.foo", "root.foo.bar", "root.foo.x", "root.foo.x.baz", "root.bar.name",
+                "root.other.name", "root.other.value", "root.list[0].name", "root.list[1].name", "root.\"quoted.key\"",
+                "root.quoted.key", "root", "root.foo.bar.baz", "root.\"foo\"", "" }) {
+            assertEquals(defaults.findRootValue(name), source.getValue(name), name);
+        }
+    }
+
+    @Test
+    void sameAsKeyMapWithWildcards() {
+        KeyMap<String> defaults = new KeyMap<>();
+        defaults.findOrAdd("*").putRootValue("star");
+        defaults.findOrAdd("server.host").putRootValue("localhost");
+        defaults.findOrAdd("server.http.port").putRootValue("8080");
+        defaults.findOrAdd("server.*.port").putRootValue("80");
+        defaults.findOrAdd("client.*").putRootValue("client");
+        defaults.findOrAdd("client.name.first").putRootValue("first");
+        DefaultValuesConfigSource source = new DefaultValuesConfigSource(defaults);
+
+        for (String name : new String[] { "server", "other", "server.host", "server.http.port", "server.https.port",
+                "server.http.host", "server.host.port", "client.name", "client.name.first", "client.name.last",
+                "client.other", "\"server\".host", "server.\"https\".port", "server.list[0]", "" }) {
+            assertEquals(defaults.findRootValue(name), source.getValue(name), name);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.smallrye.config;
 
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.ArrayDeque;
@@ -197,4 +198,51 @@ class KeyMapTest {
         assertEquals("foo", map.findRootValue("root[0].foo"));
         assertEquals("bars", map.findRootValue("root[0].bars[0]"));
     }
+
+    @Test
+    void immutableCopy() {
+        KeyMap<String> map = new KeyMap<>();
+        map.findOrAdd("root.foo").putRootValue("bar");
+        map.findOrAdd("root.foo.bar.*").putRootValue("star");
+        map.findOrAdd("root.foo[*]").putRootValue("foo.star");
+        map.findOrAdd("root.foo[1]").putRootValue("foo.one");
+        map.findOrAdd("root.foo[*].name").putRootValue("foo.star.name");
+        map.findOrAdd("root[*].bars[*]").putRootValue("bars");
+        map.findOrAdd("root.\"quoted.key\"").putRootValue("quoted");
+        // same hash
+        map.findOrAdd("root.Aa").putRootValue("Aa");
+        map.findOrAdd("root.BB").putRootValue("BB");
+
+        ImmutableKeyMap<String> copy = ImmutableKeyMap.copyOf(map);
+        map.findOrAdd("root.other").putRootValue("other");
+
+        for (String name : new String[] { "root.foo", "root.foo.bar.x", "root.foo[*]", "root.foo[1]", "root.foo[2]",
+                "root.foo[3].name", "root[0].bars[0]", "root.\"quoted.key\"", "root.Aa", "root.BB", "root.a.name",
+                "root.foo[", "root.foo]", "root", "" }) {
+            assertEquals(map.findRootValue(name), copy.findRootValue(name), name);
+        }
+        assertNull(copy.findRootValue("root.other"));
+
+        NameIterator ni = new NameIterator("root.foo.bar.x");
+        assertEquals("star", copy.findRootValue(ni));
+        assertFalse(ni.hasNext());
+    }
+
+    @Test
+    void findSegments() {
+        KeyMap<String> map = new KeyMap<>();
+        map.findOrAdd("root.\"quoted.key\"").putRootValue("quoted");
+        map.findOrAdd("root.\"quoted.list\"[*]").putRootValue("quoted.list");
+        map.findOrAdd("root.Aa").putRootValue("Aa");
+        map.findOrAdd("root.BB").putRootValue("BB");
+        map.findOrAdd("root.*.name").putRootValue("name");
+
+        assertEquals("quoted", map.findRootValue("root.\"quoted.key\""));
+        assertEquals("quoted.list", map.findRootValue("root.\"quoted.list\"[0]"));
+        assertEquals("Aa", map.findRootValue("root.Aa"));
+        assertEquals("BB", map.findRootValue("root.BB"));
+        assertEquals("name", map.findRootValue("root.\"Aa.BB\".name"));
+        assertNull(map.findRootValue("root.quoted"));
+        assertNull(map.findRootValue("root.Ab"));
+    }
 }
@@ -0,0 +1,131 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedConfigSourceTest {
+    @Test
+    void mapped(@TempDir Path tempDir) throws Exception {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.host", "localhost");
+        properties.put("server.port", "8080");
+        properties.put("server.url", "http://${server.host}:${server.port}");
+        properties.put("%dev.server.port", "9090");
+        properties.put("unicode", "café ☃");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(properties, "properties", 100))
+                .withSources(new PropertiesConfigSource(singleton("server.host", "example.org"), "override", 200))
+                .build();
+
+        Path file = tempDir.resolve("config.bin");
+        MappedConfigSourceWriter.write(config, file);
+
+        MappedConfigSource source = new MappedConfigSource(file);
+        assertEquals("example.org", source.getValue("server.host"));
+        assertEquals("8080", source.getValue("server.port"));
+        assertEquals("9090", source.getValue("%dev.server.port"));
+        assertEquals("café ☃", source.getValue("unicode"));
+        assertEquals("http://${server.host}:${server.port}", source.getValue("server.url"));
+        assertNull(source.getValue("server"));
+        assertNull(source.getValue("missing"));
+
+        ConfigValue host = source.getConfigValue("server.host");
+        assertEquals("PropertiesConfigSource[source=override]", host.getConfigSourceName());
+        assertEquals(200, host.getConfigSourceOrdinal());
+
+        assertEquals(5, source.getPropertyNames().size());
+        assertTrue(source.getPropertyNames().contains("server.url"));
+        assertEquals(5, source.getConfigValueProperties().size());
+        assertEquals("8080", source.getProperties().get("server.port"));
+
+        SmallRyeConfig mapped = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .build();
+        for (String name : config.getPropertyNames()) {
+            assertEquals(config.getRawValue(name), mapped.getRawValue(name), name);
+        }
+        assertEquals("http://example.org:8080", mapped.getRawValue("server.url"));
+    }
+
+    @Test
+    void profile(@TempDir Path tempDir) throws Exception {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.host", "localhost");
+        properties.put("server.port", "8080");
+        properties.put("%dev.server.port", "9090");
+        properties.put("%prod.server.port", "80");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("dev")
+                .withSources(new PropertiesConfigSource(properties, "properties", 100))
+                .build();
+        assertEquals("9090", config.getRawValue("server.port"));
+
+        Path file = tempDir.resolve("config.bin");
+        MappedConfigSourceWriter.write(config, file);
+
+        MappedConfigSource source = new MappedConfigSource(file);
+        assertEquals(4, source.getPropertyNames().size());
+        assertEquals("8080", source.getValue("server.port"));
+        assertEquals("9090", source.getValue("%dev.server.port"));
+        assertEquals("80", source.getValue("%prod.server.port"));
+        assertEquals("%dev.server.port", source.getConfigValue("%dev.server.port").getName());
+
+        SmallRyeConfig dev = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("dev")
+                .withSources(source)
+                .build();
+        assertEquals("9090", dev.getRawValue("server.port"));
+
+        SmallRyeConfig prod = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prod")
+                .withSources(source)
+                .build();
+        assertEquals("80", prod.getRawValue("server.port"));
+
+        SmallRyeConfig none = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .build();
+        assertEquals("8080", none.getRawValue("server.port"));
+    }
+
+    @Test
+    void invalid(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("config.properties");
+        Files.write(file, "server.host=localhost".getBytes());
+
+        assertThrows(IllegalArgumentException.class, () -> new MappedConfigSource(file));
+    }
+
+    @Test
+    void empty(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("config.bin");
+        MappedConfigSourceWriter.write(new SmallRyeConfigBuilder().build(), file);
+
+        MappedConfigSource source = new MappedConfigSource(file);
+        assertNull(source.getValue("server.host"));
+        assertFalse(source.getPropertyNames().iterator().hasNext());
+    }
+
+    private static Map<String, String> singleton(final String name, final String value) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(name, value);
+        return properties;
+    }
+}
@@ -34,4 +34,26 @@ class NameIteratorTest {
         nameIterator.previous();
         assertEquals("foo", nameIterator.getNextSegment());
     }
+
+    @Test
+    void getNextSegmentHash() {
+        NameIterator nameIterator = new NameIterator("foo.\"bar.baz\".qu\\.x.list[0]");
+        while (nameIterator.hasNext()) {
+            assertEquals(nameIterator.getNextSegment().hashCode(), nameIterator.getNextSegmentHash());
+            assertTrue(nameIterator.nextSegmentEquals(nameIterator.getNextSegment()));
+            nameIterator.next();
+        }
+    }
+
+    @Test
+    void isNextSegmentIndexed() {
+        NameIterator nameIterator = new NameIterator("foo.list[0].\"map[1]\".\"key\"");
+        assertFalse(nameIterator.isNextSegmentIndexed());
+        nameIterator.next();
+        assertTrue(nameIterator.isNextSegmentIndexed());
+        nameIterator.next();
+        assertTrue(nameIterator.isNextSegmentIndexed());
+        nameIterator.next();
+        assertFalse(nameIterator.isNextSegmentIndexed());
+    }
 }
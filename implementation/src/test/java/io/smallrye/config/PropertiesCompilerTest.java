@@ -0,0 +1,100 @@
+package io.smallrye.config;
+
+import static java.util.Collections.singleton;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PropertiesCompilerTest {
+    @Test
+    void compiled(@TempDir Path tempDir) throws Exception {
+        Path properties = tempDir.resolve("microprofile-config.properties");
+        Files.write(properties, ("config_ordinal=150\n" +
+                "server.host=localhost\n" +
+                "server.port=8080\n" +
+                "server.name=caf\\u00e9 ☃\n" +
+                "server.list=a,b,c\n").getBytes(StandardCharsets.UTF_8));
+
+        List<ConfigSource> text = PropertiesConfigSourceProvider.propertiesSources(properties.toUri().toString(),
+                Thread.currentThread().getContextClassLoader());
+
+        Path compiled = PropertiesCompiler.compile(properties);
+        assertEquals("microprofile-config.properties.bin", compiled.getFileName().toString());
+        assertTrue(Files.exists(compiled));
+
+        List<ConfigSource> sources = PropertiesConfigSourceProvider.propertiesSources(properties.toUri().toString(),
+                Thread.currentThread().getContextClassLoader());
+        assertEquals(text.size(), sources.size());
+        ConfigSource source = sources.get(0);
+        assertEquals(text.get(0).getName(), source.getName());
+        assertEquals(150, source.getOrdinal());
+        assertEquals(text.get(0).getProperties(), source.getProperties());
+        assertEquals(text.get(0).getPropertyNames(), source.getPropertyNames());
+        assertEquals("café ☃", source.getValue("server.name"));
+        assertNull(source.getValue("server"));
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+        assertEquals(8080, config.getValue("server.port", int.class));
+        assertEquals(3, config.getValues("server.list", String.class).size());
+
+        // the compiled file does not match the changed properties file, so the properties file is parsed
+        Files.write(properties, "server.host=example.org\n".getBytes(StandardCharsets.UTF_8));
+        source = PropertiesConfigSourceProvider.propertiesSources(properties.toUri().toString(),
+                Thread.currentThread().getContextClassLoader()).get(0);
+        assertEquals("example.org", source.getValue("server.host"));
+        assertNull(source.getValue("server.port"));
+
+        PropertiesCompiler.compile(properties);
+        source = PropertiesConfigSourceProvider.propertiesSources(properties.toUri().toString(),
+                Thread.currentThread().getContextClassLoader()).get(0);
+        assertEquals("example.org", source.getValue("server.host"));
+        assertEquals(singleton("server.host"), source.getPropertyNames());
+        assertSame(source.getPropertyNames(), source.getPropertyNames());
+        assertSame(source.getValue("server.host"), source.getValue("server.host"));
+    }
+
+    @Test
+    void compiledNotReadable() throws Exception {
+        URLStreamHandler handler = new URLStreamHandler() {
+            @Override
+            protected URLConnection openConnection(final URL url) {
+                return new URLConnection(url) {
+                    @Override
+                    public void connect() {
+                    }
+
+                    @Override
+                    public InputStream getInputStream() throws IOException {
+                        if (url.getPath().endsWith(".bin")) {
+                            throw new IOException("Not readable: " + url);
+                        }
+                        return new ByteArrayInputStream("server.host=localhost\n".getBytes(StandardCharsets.UTF_8));
+                    }
+                };
+            }
+        };
+        URL url = new URL(null, "custom:/META-INF/microprofile-config.properties", handler);
+
+        PropertiesConfigSourceProvider provider = new PropertiesConfigSourceProvider("not-found.properties",
+                Thread.currentThread().getContextClassLoader(), false);
+        ConfigSource source = provider.loadConfigSource(url, 100);
+        assertEquals("localhost", source.getValue("server.host"));
+        assertEquals(100, source.getOrdinal());
+    }
+}
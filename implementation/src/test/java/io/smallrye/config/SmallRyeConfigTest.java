@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.Converter;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.config.common.AbstractConfigSource;
@@ -42,6 +43,42 @@ class SmallRyeConfigTest {
         assertEquals(Arrays.asList(1, 2, 3, 4), values);
     }
 
+    @Test
+    void getValuesBatch() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234", "my.list", "1,2", "my.bool", "true")).build();
+
+        Object[] values = config.getValues(new String[] { "my.prop", "my.bool", "my.list" },
+                new Class<?>[] { Integer.class, Boolean.class, String.class });
+        assertEquals(1234, values[0]);
+        assertEquals(Boolean.TRUE, values[1]);
+        assertEquals("1,2", values[2]);
+
+        values = config.getValues(new String[] { "my.prop", "my.missing", "my.list" }, new Converter<?>[] {
+                config.requireConverter(Long.class),
+                Converters.newOptionalConverter(config.requireConverter(String.class)),
+                Converters.newCollectionConverter(config.requireConverter(Integer.class), ArrayList::new) });
+        assertEquals(1234L, values[0]);
+        assertEquals(Optional.empty(), values[1]);
+        assertEquals(Arrays.asList(1, 2), values[2]);
+    }
+
+    @Test
+    void getValuesBatchProblems() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234", "my.bool", "maybe")).build();
+
+        ConfigValidationException exception = assertThrows(ConfigValidationException.class,
+                () -> config.getValues(new String[] { "my.prop", "my.bool", "my.missing" },
+                        new Class<?>[] { Integer.class, Integer.class, String.class }));
+        assertEquals(2, exception.getProblemCount());
+        assertTrue(exception.getProblem(0).getMessage().contains("my.bool"));
+        assertTrue(exception.getProblem(1).getMessage().contains("my.missing"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> config.getValues(new String[] { "my.prop" }, new Class<?>[] { Integer.class, String.class }));
+    }
+
     @Test
     void getOptionalValues() {
         SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(config("my.list", "1,2,3,4")).build();